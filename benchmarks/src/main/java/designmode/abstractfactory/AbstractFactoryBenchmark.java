@@ -0,0 +1,40 @@
+package designmode.abstractfactory;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//抽象工厂模式的热路径：创建一组产品
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AbstractFactoryBenchmark {
+    private AbstractFactory factory;
+
+    @Setup
+    public void setup() {
+        factory = new ConcreteFactory1();
+    }
+
+    @Benchmark
+    public ProductA createProductA() {
+        return factory.createProductA();
+    }
+
+    @Benchmark
+    public ProductB createProductB() {
+        return factory.createProductB();
+    }
+}
@@ -0,0 +1,104 @@
+package designmode.adapter;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//逐条委托与批量适配的对比：每次操作读完全部 records 条记录
+//拷贝的字节数作为辅助计数器 bytesCopied 一起输出，是每轮迭代的总数
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordAdapterBenchmark {
+    static final int RECORD_SIZE = 64;
+    static final int BATCH = 1024;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Copies {
+        public long bytesCopied;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesCopied = 0;
+        }
+    }
+
+    @Param({"100000", "4000000"})
+    private int records;
+
+    private LegacyRecordStore store;
+
+    @Setup
+    public void setup() {
+        byte[] data = new byte[records * RECORD_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        store = new LegacyRecordStore(data, RECORD_SIZE);
+    }
+
+    @Benchmark
+    public long perCall(Copies copies) {
+        long checksum = 0;
+        for (int i = 0; i < store.getRecordCount(); i++) {
+            ByteBuffer record = ByteBuffer.wrap(store.getRecord(i));
+            checksum += record.getLong(0);
+        }
+        copies.bytesCopied += (long) store.getRecordCount() * RECORD_SIZE;
+        return checksum;
+    }
+
+    @Benchmark
+    public long zeroCopy(Copies copies) {
+        long before = RecordAdapters.bytesCopied();
+        long checksum = drain(RecordAdapters.BATCH.adapt(store));
+        copies.bytesCopied += RecordAdapters.bytesCopied() - before;
+        return checksum;
+    }
+
+    //拷贝字节数包含旧接口 readRecord 自身的那次拷贝
+    @Benchmark
+    public long batched(Copies copies) {
+        int[] next = {0};
+        LegacyRecordStream stream = new LegacyRecordStream() {
+            public int getRecordSize() {
+                return RECORD_SIZE;
+            }
+
+            public byte[] readRecord() {
+                return next[0] < store.getRecordCount() ? store.getRecord(next[0]++) : null;
+            }
+        };
+        long before = RecordAdapters.bytesCopied();
+        long checksum = drain(RecordAdapters.BATCH.adapt(stream));
+        copies.bytesCopied += RecordAdapters.bytesCopied() - before + (long) store.getRecordCount() * RECORD_SIZE;
+        return checksum;
+    }
+
+    private static long drain(RecordBatchTarget target) {
+        long checksum = 0;
+        for (ByteBuffer batch; (batch = target.nextBatch(BATCH)) != null; ) {
+            for (int offset = 0; offset < batch.limit(); offset += RECORD_SIZE) {
+                checksum += batch.getLong(offset);
+            }
+        }
+        return checksum;
+    }
+}
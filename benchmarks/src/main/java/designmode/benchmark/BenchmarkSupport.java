@@ -0,0 +1,15 @@
+package designmode.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+//基准测试共用的工具
+public final class BenchmarkSupport {
+    private BenchmarkSupport() {}
+
+    //大部分模式的热路径都会打印到 System.out，测量时把输出丢掉，避免终端本身成为瓶颈
+    //这样测到的仍然包含字符串拼接和 PrintStream 加锁的开销
+    public static void discardStdout() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+}
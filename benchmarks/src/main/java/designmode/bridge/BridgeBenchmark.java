@@ -0,0 +1,38 @@
+package designmode.bridge;
+
+import java.util.concurrent.TimeUnit;
+
+import designmode.benchmark.BenchmarkSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//桥接模式的热路径：抽象部分调用实现部分
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BridgeBenchmark {
+    private Abstraction abstraction;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.discardStdout();
+        abstraction = new RefinedAbstraction(new ConcreteImplementorA());
+    }
+
+    @Benchmark
+    public void operation() {
+        abstraction.operation();
+    }
+}
@@ -0,0 +1,102 @@
+package designmode.bridge;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//稳定状态下每次调用的耗时：普通字段、volatile 字段、可热替换的桥接
+//每个方法在单独的 fork 里跑；前三个方法的调用点只见过一种实现者
+//swappableAfterSwap 故意先用 CountingImplementor 跑热再换成另一个类，它的调用点见过两种实现者，测的是 swap 之后双态调用的耗时
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BridgeSwapBenchmark {
+    static class CountingImplementor implements Implementor {
+        long count;
+
+        public void operationImpl() {
+            count++;
+        }
+    }
+
+    static class PlainAbstraction extends Abstraction {
+        PlainAbstraction(Implementor implementor) {
+            super(implementor);
+        }
+
+        public void operation() {
+            implementor.operationImpl();
+        }
+    }
+
+    static class VolatileAbstraction extends Abstraction {
+        private volatile Implementor current;
+
+        VolatileAbstraction(Implementor implementor) {
+            super(implementor);
+            current = implementor;
+        }
+
+        public void operation() {
+            current.operationImpl();
+        }
+    }
+
+    private PlainAbstraction plain;
+    private VolatileAbstraction volatileField;
+    private SwappableAbstraction swappable;
+    private SwappableAbstraction swapped;
+
+    @Setup
+    public void setup() {
+        CountingImplementor implementor = new CountingImplementor();
+        plain = new PlainAbstraction(implementor);
+        volatileField = new VolatileAbstraction(implementor);
+        swappable = new SwappableAbstraction(implementor);
+
+        //先用原来的实现者跑热，再换成另一个类的实现者，观察退优化重新编译后的稳定耗时
+        swapped = new SwappableAbstraction(new CountingImplementor());
+        for (int i = 0; i < 1_000_000; i++) {
+            swapped.operation();
+        }
+        swapped.swap(new Implementor() {
+            long count;
+
+            public void operationImpl() {
+                count--;
+            }
+        });
+    }
+
+    @Benchmark
+    public void plainField() {
+        plain.operation();
+    }
+
+    @Benchmark
+    public void volatileField() {
+        volatileField.operation();
+    }
+
+    @Benchmark
+    public void swappable() {
+        swappable.operation();
+    }
+
+    @Benchmark
+    public void swappableAfterSwap() {
+        swapped.operation();
+    }
+}
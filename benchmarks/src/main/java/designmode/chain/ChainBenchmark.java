@@ -0,0 +1,44 @@
+package designmode.chain;
+
+import java.util.concurrent.TimeUnit;
+
+import designmode.benchmark.BenchmarkSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//职责链模式的热路径：请求分别在链的第一个和第二个节点被处理
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChainBenchmark {
+    private Handler handler;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.discardStdout();
+        handler = new ConcreteHandler1();
+        handler.setSuccessor(new ConcreteHandler2());
+    }
+
+    @Benchmark
+    public void handleRequestFirst() {
+        handler.handleRequest(5);
+    }
+
+    @Benchmark
+    public void handleRequestSecond() {
+        handler.handleRequest(15);
+    }
+}
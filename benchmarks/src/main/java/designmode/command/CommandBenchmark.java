@@ -0,0 +1,39 @@
+package designmode.command;
+
+import java.util.concurrent.TimeUnit;
+
+import designmode.benchmark.BenchmarkSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//命令模式的热路径：遥控器执行已设置的命令
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandBenchmark {
+    private RemoteControl remote;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.discardStdout();
+        remote = new RemoteControl();
+        remote.setCommand(new LightOnCommand(new Light()));
+    }
+
+    @Benchmark
+    public void pressButton() {
+        remote.pressButton();
+    }
+}
@@ -0,0 +1,45 @@
+package designmode.composite;
+
+import java.util.concurrent.TimeUnit;
+
+import designmode.benchmark.BenchmarkSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//组合模式的热路径：遍历一棵两层、每层 8 个子节点的树
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompositeBenchmark {
+    private Component root;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.discardStdout();
+        root = new Composite();
+        for (int i = 0; i < 8; i++) {
+            Component branch = new Composite();
+            for (int j = 0; j < 8; j++) {
+                branch.add(new Leaf());
+            }
+            root.add(branch);
+        }
+    }
+
+    @Benchmark
+    public void operation() {
+        root.operation();
+    }
+}
@@ -0,0 +1,71 @@
+package designmode.facade;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+//外观延迟分位数：顺序调用与并发调用，每个子系统用 1~5ms 的 sleep 模拟
+//SampleTime 模式会在结果里给出 p50、p90、p99 等分位数
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FacadeLatencyBenchmark {
+    @Param({"2", "8", "32"})
+    private int subsystems;
+
+    private ExecutorService executor;
+    private ConcurrentFacade facade;
+    private List<Callable<Object>> calls;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+        facade = new ConcurrentFacade(executor);
+        calls = new ArrayList<>();
+        for (int i = 0; i < subsystems; i++) {
+            Callable<Object> call = () -> {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(1, 6));
+                return Boolean.TRUE;
+            };
+            calls.add(call);
+            facade.register("subsystem" + i, call, 1_000, 64);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void sequential() throws Exception {
+        for (Callable<Object> call : calls) {
+            call.call();
+        }
+    }
+
+    @Benchmark
+    public Object concurrent() throws Exception {
+        return facade.operation();
+    }
+}
@@ -0,0 +1,42 @@
+package designmode.flyweight;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//享元模式的热路径：从 64 个已缓存的享元里按键查找
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlyweightBenchmark {
+    private FlyweightFactory factory;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setup() {
+        factory = new FlyweightFactory();
+        keys = new String[64];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key" + i;
+            factory.getFlyweight(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public Flyweight getFlyweight() {
+        return factory.getFlyweight(keys[next++ & (keys.length - 1)]);
+    }
+}
@@ -0,0 +1,37 @@
+package designmode.interpreter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//解释器模式的热路径：解释一个 Or 表达式
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterpreterBenchmark {
+    private Expression expression;
+    private String context;
+
+    @Setup
+    public void setup() {
+        expression = new OrExpression(new TerminalExpression("Male"), new TerminalExpression("Female"));
+        context = "John is a Male";
+    }
+
+    @Benchmark
+    public boolean interpret() {
+        return expression.interpret(context);
+    }
+}
@@ -0,0 +1,38 @@
+package designmode.iterator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+//迭代器模式的热路径：用迭代器走完一个容器
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IteratorBenchmark {
+    private NameRepository repository;
+
+    @Setup
+    public void setup() {
+        repository = new NameRepository();
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Iterator<String> iter = repository.getIterator(); iter.hasNext(); ) {
+            blackhole.consume(iter.next());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package designmode.iterator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//迭代吞吐量测试：原来的逐个 next()、批量 nextChunk、基本类型 forEachRemaining、并行流
+//每次操作走完整个容器，size 除以耗时就是每秒处理的元素个数
+//装箱的两种方式用单独的 boxedSize 参数，最多 BOXED_LIMIT 个元素：1 亿个 Integer 已经要约 2GB 堆，需要 -jvmArgsAppend -Xmx4g
+//基本类型可以测到 int[10 亿]，需要 4GB 堆：-p size=1000000000 -jvmArgsAppend -Xmx6g
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IteratorThroughputBenchmark {
+    static final int BOXED_LIMIT = 100_000_000;
+
+    @State(Scope.Benchmark)
+    public static class Boxed {
+        @Param({"1000000", "10000000"})
+        int boxedSize;
+
+        RandomAccessContainer<Integer> container;
+
+        @Setup
+        public void setup() {
+            if (boxedSize > BOXED_LIMIT) {
+                throw new IllegalArgumentException("boxedSize must not exceed " + BOXED_LIMIT);
+            }
+            Integer[] boxed = new Integer[boxedSize];
+            for (int i = 0; i < boxed.length; i++) {
+                boxed[i] = i;
+            }
+            container = new RandomAccessContainer<Integer>() {
+                public int size() {
+                    return boxed.length;
+                }
+
+                public Integer get(int index) {
+                    return boxed[index];
+                }
+
+                public Iterator<Integer> getIterator() {
+                    return new Iterator<Integer>() {
+                        int index;
+
+                        public boolean hasNext() {
+                            return index < boxed.length;
+                        }
+
+                        public Integer next() {
+                            return hasNext() ? boxed[index++] : null;
+                        }
+
+                        public int nextChunk(Integer[] buffer) {
+                            int n = Math.min(buffer.length, boxed.length - index);
+                            System.arraycopy(boxed, index, buffer, 0, n);
+                            index += n;
+                            return n;
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Primitive {
+        @Param({"1000000", "10000000", "100000000"})
+        int size;
+
+        IntArrayContainer container;
+
+        @Setup
+        public void setup() {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = i;
+            }
+            container = new IntArrayContainer(values);
+        }
+    }
+
+    @Benchmark
+    public long next(Boxed state) {
+        long sum = 0;
+        for (Iterator<Integer> iter = state.container.getIterator(); iter.hasNext(); ) {
+            sum += iter.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long nextChunk(Boxed state) {
+        long sum = 0;
+        Integer[] buffer = new Integer[1024];
+        Iterator<Integer> iter = state.container.getIterator();
+        for (int n; (n = iter.nextChunk(buffer)) > 0; ) {
+            for (int i = 0; i < n; i++) {
+                sum += buffer[i];
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitive(Primitive state) {
+        long[] sum = new long[1];
+        state.container.getIterator().forEachRemaining(v -> sum[0] += v);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long parallel(Primitive state) {
+        return state.container.stream(true).asLongStream().sum();
+    }
+}
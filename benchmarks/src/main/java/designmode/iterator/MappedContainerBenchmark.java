@@ -0,0 +1,143 @@
+package designmode.iterator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+//映射容器与全部读进 String[] 的对比：启动耗时、扫描一遍的耗时，堆占用在 setup 里测一次并打印
+//映射容器的启动分两部分：扫描数据文件建索引（buildIndex），和索引已存在时的 open
+//1 亿条记录的 String[] 需要约 8GB 堆：-p records=100000000 -jvmArgsAppend -Xmx10g
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedContainerBenchmark {
+    @Param({"1000000", "10000000"})
+    private int records;
+
+    private Path file;
+    private Path indexFile;
+    private Path scratchIndexFile;
+    private MappedNameRepository mapped;
+    private RandomAccessContainer<CharSequence> array;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("names", ".txt");
+        indexFile = file.resolveSibling(file.getFileName() + ".idx");
+        scratchIndexFile = file.resolveSibling(file.getFileName() + ".scratch.idx");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            for (int i = 0; i < records; i++) {
+                writer.write("Name-");
+                writer.write(Integer.toString(i));
+                writer.write('\n');
+            }
+        }
+        MappedNameRepository.buildIndex(file, indexFile);
+
+        long heapBefore = usedHeap();
+        mapped = MappedNameRepository.open(file);
+        long mappedHeap = usedHeap() - heapBefore;
+
+        heapBefore = usedHeap();
+        String[] names = loadArray();
+        long arrayHeap = usedHeap() - heapBefore;
+        array = new RandomAccessContainer<CharSequence>() {
+            public int size() {
+                return names.length;
+            }
+
+            public CharSequence get(int index) {
+                return names[index];
+            }
+
+            public Iterator<CharSequence> getIterator() {
+                return new Iterator<CharSequence>() {
+                    int index;
+
+                    public boolean hasNext() {
+                        return index < names.length;
+                    }
+
+                    public CharSequence next() {
+                        return hasNext() ? names[index++] : null;
+                    }
+                };
+            }
+        };
+        System.out.printf("%d records: mapped heap %d MB, array heap %d MB%n", records, mappedHeap >> 20, arrayHeap >> 20);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mapped = null;
+        array = null;
+        Files.deleteIfExists(scratchIndexFile);
+        Files.deleteIfExists(indexFile);
+        Files.deleteIfExists(file);
+    }
+
+    //写到单独的索引文件，不影响 open 用的那份
+    @Benchmark
+    public void buildIndex() throws IOException {
+        MappedNameRepository.buildIndex(file, scratchIndexFile);
+    }
+
+    @Benchmark
+    public MappedNameRepository open() throws IOException {
+        return MappedNameRepository.open(file);
+    }
+
+    @Benchmark
+    public String[] loadArray() throws IOException {
+        return Files.readAllLines(file, StandardCharsets.ISO_8859_1).toArray(new String[0]);
+    }
+
+    @Benchmark
+    public long scanMapped() {
+        return scan(mapped);
+    }
+
+    @Benchmark
+    public long scanArray() {
+        return scan(array);
+    }
+
+    //逐条取出记录并读取每个字符
+    private static long scan(Container<CharSequence> container) {
+        long checksum = 0;
+        for (Iterator<CharSequence> iter = container.getIterator(); iter.hasNext(); ) {
+            CharSequence name = iter.next();
+            for (int i = 0; i < name.length(); i++) {
+                checksum += name.charAt(i);
+            }
+        }
+        return checksum;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,44 @@
+package designmode.memento;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//备忘录模式的热路径：保存状态和从备忘录恢复状态
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MementoBenchmark {
+    private Originator originator;
+    private Memento memento;
+
+    @Setup
+    public void setup() {
+        originator = new Originator();
+        originator.setState("State #1");
+        memento = originator.saveStateToMemento();
+    }
+
+    @Benchmark
+    public Memento saveStateToMemento() {
+        return originator.saveStateToMemento();
+    }
+
+    @Benchmark
+    public String getStateFromMemento() {
+        originator.getStateFromMemento(memento);
+        return originator.getState();
+    }
+}
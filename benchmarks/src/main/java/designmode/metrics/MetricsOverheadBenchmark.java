@@ -0,0 +1,91 @@
+package designmode.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import designmode.benchmark.BenchmarkSupport;
+import designmode.flyweight.Flyweight;
+import designmode.flyweight.FlyweightFactory;
+import designmode.proxy.Proxy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+//埋点的开销：同一条热路径分别在关闭和打开指标的 JVM 里测量，另外单独测计数器、直方图和快照本身
+//只有 *Enabled 方法的 fork 带 -Ddesignmode.metrics=true，其余方法在默认关闭指标的 JVM 里跑
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+    private FlyweightFactory factory;
+    private String[] keys;
+    private int next;
+    private Proxy proxy;
+    private Counter counter;
+    private Histogram histogram;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.discardStdout();
+        factory = new FlyweightFactory();
+        keys = new String[64];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key" + i;
+            factory.getFlyweight(keys[i]);
+        }
+        proxy = new Proxy();
+        counter = Metrics.counter("benchmark.counter");
+        histogram = Metrics.histogram("benchmark.histogram");
+    }
+
+    @Benchmark
+    public Flyweight getFlyweightDisabled() {
+        return factory.getFlyweight(keys[next++ & (keys.length - 1)]);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Ddesignmode.metrics=true")
+    public Flyweight getFlyweightEnabled() {
+        return factory.getFlyweight(keys[next++ & (keys.length - 1)]);
+    }
+
+    @Benchmark
+    public void proxyRequestDisabled() {
+        proxy.request();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Ddesignmode.metrics=true")
+    public void proxyRequestEnabled() {
+        proxy.request();
+    }
+
+    //四个线程同时累加，看分段计数器和无锁直方图在争用下的表现
+    @Benchmark
+    @Threads(4)
+    public void counterIncrement() {
+        counter.increment();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void histogramRecord() {
+        histogram.record(1_000);
+    }
+
+    @Benchmark
+    public MetricsSnapshot snapshot() {
+        return Metrics.snapshot();
+    }
+}
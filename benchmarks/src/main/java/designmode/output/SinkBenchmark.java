@@ -0,0 +1,65 @@
+package designmode.output;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+//多线程输出吞吐量：原来的 System.out 字符串拼接与环形缓冲区 Sink，两者都写到临时文件
+//加上 -prof gc 可以看到每次调用的分配字节数
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SinkBenchmark {
+    private Path stdoutFile;
+    private Path sinkFile;
+    private PrintStream stdout;
+    private RingBufferSink sink;
+
+    @Setup
+    public void setup() throws IOException {
+        stdoutFile = Files.createTempFile("stdout", ".log");
+        sinkFile = Files.createTempFile("sink", ".log");
+        stdout = new PrintStream(new BufferedOutputStream(new FileOutputStream(stdoutFile.toFile())), false);
+        System.setOut(stdout);
+        sink = new RingBufferSink(sinkFile, 1 << 16);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        stdout.close();
+        sink.close();
+        Files.deleteIfExists(stdoutFile);
+        Files.deleteIfExists(sinkFile);
+    }
+
+    @Benchmark
+    public void systemOut() {
+        System.out.println("ConcreteHandler1 handled request " + 5);
+    }
+
+    @Benchmark
+    public void ringBufferSink() {
+        sink.emit("ConcreteHandler1 handled request {}", 5);
+    }
+}
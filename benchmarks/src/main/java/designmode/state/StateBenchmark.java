@@ -0,0 +1,39 @@
+package designmode.state;
+
+import java.util.concurrent.TimeUnit;
+
+import designmode.benchmark.BenchmarkSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+//状态模式的热路径：状态对象切换上下文的状态
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+public class StateBenchmark {
+    private Context context;
+    private State state;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.discardStdout();
+        context = new Context();
+        state = new StartState();
+    }
+
+    @Benchmark
+    public void doAction() {
+        state.doAction(context);
+    }
+}
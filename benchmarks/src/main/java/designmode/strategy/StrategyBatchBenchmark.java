@@ -0,0 +1,76 @@
+package designmode.strategy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//批量策略的对比：逐个调用 / 批量标量 / 向量化 / 并行，每次操作处理 size 个元素，除以 size 就是每个元素的耗时
+//1 亿个元素的三个数组约 1.2GB：-p size=100000000 -jvmArgsAppend -Xmx4g
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class StrategyBatchBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Strategy strategy;
+    private Strategy scalar;
+    private Context context;
+    private int[] num1;
+    private int[] num2;
+    private int[] result;
+
+    @Setup
+    public void setup() {
+        strategy = new OperationAdd();
+        scalar = (num1, num2) -> num1 + num2;
+        context = new Context(strategy);
+        num1 = new int[size];
+        num2 = new int[size];
+        result = new int[size];
+        for (int i = 0; i < size; i++) {
+            num1[i] = i;
+            num2[i] = size - i;
+        }
+    }
+
+    @Benchmark
+    public int[] perCall() {
+        for (int i = 0; i < size; i++) {
+            result[i] = strategy.doOperation(num1[i], num2[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int[] batchScalar() {
+        scalar.doOperation(num1, num2, result, 0, size);
+        return result;
+    }
+
+    //不加 --add-modules 时退化为标量循环
+    @Benchmark
+    public int[] vectorized() {
+        strategy.doOperation(num1, num2, result, 0, size);
+        return result;
+    }
+
+    @Benchmark
+    public int[] parallel() {
+        context.executeStrategy(num1, num2, result);
+        return result;
+    }
+}
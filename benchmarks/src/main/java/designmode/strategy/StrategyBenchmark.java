@@ -0,0 +1,55 @@
+package designmode.strategy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//策略模式的热路径：逐对调用和对 1024 个元素的批量调用
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class StrategyBenchmark {
+    private Context context;
+    private int num1;
+    private int num2;
+    private int[] nums1;
+    private int[] nums2;
+    private int[] result;
+
+    @Setup
+    public void setup() {
+        context = new Context(new OperationAdd());
+        num1 = 10;
+        num2 = 5;
+        nums1 = new int[1024];
+        nums2 = new int[1024];
+        result = new int[1024];
+        for (int i = 0; i < nums1.length; i++) {
+            nums1[i] = i;
+            nums2[i] = nums1.length - i;
+        }
+    }
+
+    @Benchmark
+    public int executeStrategy() {
+        return context.executeStrategy(num1, num2);
+    }
+
+    @Benchmark
+    public int[] executeStrategyBatch() {
+        context.executeStrategy(nums1, nums2, result);
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package designmode.template;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import designmode.metrics.Metrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+//顺序执行与调度执行的对比，每个步骤用 5ms 的 sleep 模拟耗时
+//步骤依赖：initialize -> (loadA, loadB, loadC) -> startPlay -> endPlay
+//加 -jvmArgsAppend -Ddesignmode.metrics=true 运行时结束后会打印每个步骤的耗时直方图
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateSchedulingBenchmark {
+    static class SlowGame extends Game {
+        private final long millis;
+
+        SlowGame(long millis) {
+            this.millis = millis;
+        }
+
+        protected void declareSteps(GameSteps steps) {
+            steps.step("initialize", this::initialize);
+            steps.step("loadA", this::pause, "initialize");
+            steps.step("loadB", this::pause, "initialize");
+            steps.step("loadC", this::pause, "initialize");
+            steps.step("startPlay", this::startPlay, "loadA", "loadB", "loadC");
+            steps.step("endPlay", this::endPlay, "startPlay");
+        }
+
+        void initialize() { pause(); }
+        void startPlay() { pause(); }
+        void endPlay() { pause(); }
+
+        void pause() {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Param({"1", "16"})
+    private int gameCount;
+
+    private SlowGame[] games;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        games = new SlowGame[gameCount];
+        for (int i = 0; i < gameCount; i++) {
+            games[i] = new SlowGame(5);
+        }
+        executor = Executors.newFixedThreadPool(gameCount * 3);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+        if (Metrics.ENABLED) {
+            System.out.print(Metrics.snapshot().export());
+        }
+    }
+
+    @Benchmark
+    public void sequential() {
+        for (Game game : games) {
+            game.play();
+        }
+    }
+
+    @Benchmark
+    public void scheduled() throws Exception {
+        Game.playAll(executor, games).get();
+    }
+}
@@ -0,0 +1,40 @@
+package designmode.visitor;
+
+import java.util.concurrent.TimeUnit;
+
+import designmode.benchmark.BenchmarkSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//访问者模式的热路径：访问者遍历电脑的各个部件
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VisitorBenchmark {
+    private ComputerPart computer;
+    private ComputerPartVisitor visitor;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.discardStdout();
+        computer = new Computer();
+        visitor = new ComputerPartDisplayVisitor();
+    }
+
+    @Benchmark
+    public void accept() {
+        computer.accept(visitor);
+    }
+}
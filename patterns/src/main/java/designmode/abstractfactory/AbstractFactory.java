@@ -0,0 +1,6 @@
+package designmode.abstractfactory;
+
+public interface AbstractFactory {
+    ProductA createProductA();
+    ProductB createProductB();
+}
@@ -0,0 +1,10 @@
+package designmode.abstractfactory;
+
+public class ConcreteFactory1 implements AbstractFactory {
+    public ProductA createProductA() {
+        return new ConcreteProductA1();
+    }
+    public ProductB createProductB() {
+        return new ConcreteProductB1();
+    }
+}
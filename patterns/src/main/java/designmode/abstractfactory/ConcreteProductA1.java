@@ -0,0 +1,3 @@
+package designmode.abstractfactory;
+
+public class ConcreteProductA1 implements ProductA {}
@@ -0,0 +1,3 @@
+package designmode.abstractfactory;
+
+public class ConcreteProductB1 implements ProductB {}
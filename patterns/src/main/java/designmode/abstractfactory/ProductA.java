@@ -0,0 +1,3 @@
+package designmode.abstractfactory;
+
+public interface ProductA {}
@@ -0,0 +1,3 @@
+//Abstract Factory Pattern抽象工厂模式
+//提供一个创建一系列相关或依赖对象的接口，而无需指定它们的具体类
+package designmode.abstractfactory;
@@ -0,0 +1,9 @@
+package designmode.adapter;
+
+import designmode.output.Output;
+
+public class Adaptee {
+    public void specificRequest() {
+        Output.sink().emit("Called specificRequest");
+    }
+}
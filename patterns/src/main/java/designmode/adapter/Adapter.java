@@ -0,0 +1,11 @@
+package designmode.adapter;
+
+public class Adapter implements Target {
+    private Adaptee adaptee;
+    public Adapter(Adaptee adaptee) {
+        this.adaptee = adaptee;
+    }
+    public void request() {
+        adaptee.specificRequest();
+    }
+}
@@ -0,0 +1,60 @@
+package designmode.adapter;
+
+import java.nio.ByteBuffer;
+
+//按批拷贝：一批记录拷进同一块缓冲区，省掉每条记录各自的包装对象
+//读到长度不对的记录时，先把这批里已经读到的正常记录交出去，下一次调用再抛出异常
+class BatchingStreamAdapter implements RecordBatchTarget {
+    //一批最多缓冲这么多字节，maxRecords 再大也不会分配更大的缓冲区
+    static final int MAX_BATCH_BYTES = 16 << 20;
+
+    private final LegacyRecordStream stream;
+    private final int recordSize;
+    private ByteBuffer buffer = ByteBuffer.allocate(0);
+    private IllegalStateException failure;
+
+    BatchingStreamAdapter(LegacyRecordStream stream) {
+        if (stream.getRecordSize() <= 0) {
+            throw new IllegalArgumentException("recordSize must be positive: " + stream.getRecordSize());
+        }
+        this.stream = stream;
+        this.recordSize = stream.getRecordSize();
+    }
+
+    public int recordSize() {
+        return recordSize;
+    }
+
+    public ByteBuffer nextBatch(int maxRecords) {
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("maxRecords must be positive: " + maxRecords);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        int records = Math.min(maxRecords, Math.max(1, MAX_BATCH_BYTES / recordSize));
+        if (buffer.capacity() < records * recordSize) {
+            buffer = ByteBuffer.allocate(records * recordSize);
+        }
+        buffer.clear();
+        int count = 0;
+        byte[] record;
+        while (count < records && (record = stream.readRecord()) != null) {
+            if (record.length != recordSize) {
+                failure = new IllegalStateException("Record " + count + " of batch has " + record.length
+                        + " bytes, expected " + recordSize);
+                if (count == 0) {
+                    throw failure;
+                }
+                break;
+            }
+            buffer.put(record);
+            count++;
+        }
+        if (count == 0) {
+            return null;
+        }
+        RecordAdapters.copied((long) count * recordSize);
+        return buffer.flip().asReadOnlyBuffer();
+    }
+}
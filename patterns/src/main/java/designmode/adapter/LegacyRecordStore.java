@@ -0,0 +1,30 @@
+package designmode.adapter;
+
+import java.util.Arrays;
+
+//旧数据源一：记录连续存放在数组里，getRecord 每次都会拷贝一份
+class LegacyRecordStore {
+    private final byte[] data;
+    private final int recordSize;
+
+    public LegacyRecordStore(byte[] data, int recordSize) {
+        this.data = data;
+        this.recordSize = recordSize;
+    }
+
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    public int getRecordCount() {
+        return data.length / recordSize;
+    }
+
+    public byte[] getRecord(int index) {
+        return Arrays.copyOfRange(data, index * recordSize, (index + 1) * recordSize);
+    }
+
+    public byte[] array() {
+        return data;
+    }
+}
@@ -0,0 +1,7 @@
+package designmode.adapter;
+
+//旧数据源二：只能逐条读取，读完返回 null
+interface LegacyRecordStream {
+    int getRecordSize();
+    byte[] readRecord();
+}
@@ -0,0 +1,6 @@
+package designmode.adapter;
+
+//由某种源对象创建目标接口的工厂，每个 (源类型, 目标接口) 组合只有一个实例
+interface RecordAdapter<S, T> {
+    T adapt(S source);
+}
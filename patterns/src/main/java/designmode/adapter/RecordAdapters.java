@@ -0,0 +1,92 @@
+package designmode.adapter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+class RecordAdapters<T> {
+    private static final LongAdder BYTES_COPIED = new LongAdder();
+
+    public static final RecordAdapters<RecordBatchTarget> BATCH = new RecordAdapters<>(RecordBatchTarget.class);
+
+    static {
+        BATCH.register(LegacyRecordStore.class, ZeroCopyStoreAdapter::new);
+        BATCH.register(LegacyRecordStream.class, BatchingStreamAdapter::new);
+    }
+
+    private final Class<T> targetType;
+    private final Map<Class<?>, RecordAdapter<?, ? extends T>> registered = new ConcurrentHashMap<>();
+    //每次 register 都加一，缓存的解析结果带着解析时的版本，版本过期就重新解析
+    private volatile int version;
+    //按具体源类型缓存解析结果，查找时沿父类和接口向上找已注册的适配器
+    private final ClassValue<Resolved> resolved = new ClassValue<>() {
+        protected Resolved computeValue(Class<?> type) {
+            int current = version;
+            return new Resolved(current, lookup(type));
+        }
+    };
+
+    public RecordAdapters(Class<T> targetType) {
+        this.targetType = targetType;
+    }
+
+    public synchronized <S> void register(Class<S> sourceType, RecordAdapter<? super S, ? extends T> adapter) {
+        if (registered.putIfAbsent(sourceType, adapter) != null) {
+            throw new IllegalStateException("Adapter already registered for " + sourceType.getName());
+        }
+        version++;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T adapt(Object source) {
+        if (targetType.isInstance(source)) {
+            return targetType.cast(source);
+        }
+        Class<?> type = source.getClass();
+        Resolved cached = resolved.get(type);
+        if (cached.version != version) {
+            resolved.remove(type);
+            cached = resolved.get(type);
+        }
+        RecordAdapter<Object, ? extends T> adapter = (RecordAdapter<Object, ? extends T>) cached.adapter;
+        if (adapter == null) {
+            throw new IllegalArgumentException("No adapter from " + source.getClass().getName() + " to " + targetType.getName());
+        }
+        return adapter.adapt(source);
+    }
+
+    private RecordAdapter<?, ? extends T> lookup(Class<?> type) {
+        if (type == null) {
+            return null;
+        }
+        RecordAdapter<?, ? extends T> adapter = registered.get(type);
+        if (adapter != null) {
+            return adapter;
+        }
+        for (Class<?> parent : type.getInterfaces()) {
+            adapter = lookup(parent);
+            if (adapter != null) {
+                return adapter;
+            }
+        }
+        return lookup(type.getSuperclass());
+    }
+
+    private final class Resolved {
+        final int version;
+        final RecordAdapter<?, ? extends T> adapter;
+
+        Resolved(int version, RecordAdapter<?, ? extends T> adapter) {
+            this.version = version;
+            this.adapter = adapter;
+        }
+    }
+
+    static void copied(long bytes) {
+        BYTES_COPIED.add(bytes);
+    }
+
+    public static long bytesCopied() {
+        return BYTES_COPIED.sum();
+    }
+}
@@ -0,0 +1,14 @@
+package designmode.adapter;
+
+import java.nio.ByteBuffer;
+
+//面向数据的批量适配器：新接口一次交出一批定长记录的只读 ByteBuffer 视图
+//能直接拿到底层存储的旧数据源走零拷贝路径，只能逐条读取的旧数据源按批拷进一块复用的缓冲区
+//适配器按 (源类型, 目标接口) 只创建一次并缓存复用
+interface RecordBatchTarget {
+    int recordSize();
+
+    //返回最多 maxRecords 条记录的只读视图，没有更多记录时返回 null；视图在下一次调用前有效
+    //maxRecords 必须大于 0，否则抛 IllegalArgumentException；实现可以返回少于 maxRecords 条记录
+    ByteBuffer nextBatch(int maxRecords);
+}
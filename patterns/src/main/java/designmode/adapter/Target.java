@@ -0,0 +1,5 @@
+package designmode.adapter;
+
+public interface Target {
+    void request();
+}
@@ -0,0 +1,36 @@
+package designmode.adapter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+//零拷贝：直接在旧存储的数组上切出只读视图
+class ZeroCopyStoreAdapter implements RecordBatchTarget {
+    private final ByteBuffer data;
+    private final int recordSize;
+
+    ZeroCopyStoreAdapter(LegacyRecordStore store) {
+        if (store.getRecordSize() <= 0) {
+            throw new IllegalArgumentException("recordSize must be positive: " + store.getRecordSize());
+        }
+        this.data = ByteBuffer.wrap(store.array(), 0, store.getRecordCount() * store.getRecordSize())
+                .asReadOnlyBuffer().order(ByteOrder.BIG_ENDIAN);
+        this.recordSize = store.getRecordSize();
+    }
+
+    public int recordSize() {
+        return recordSize;
+    }
+
+    public ByteBuffer nextBatch(int maxRecords) {
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("maxRecords must be positive: " + maxRecords);
+        }
+        if (!data.hasRemaining()) {
+            return null;
+        }
+        int length = (int) Math.min(data.remaining(), (long) maxRecords * recordSize);
+        ByteBuffer batch = data.slice(data.position(), length);
+        data.position(data.position() + length);
+        return batch;
+    }
+}
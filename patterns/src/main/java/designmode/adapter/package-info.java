@@ -0,0 +1,3 @@
+//Adapter Pattern适配器模式
+//将一个类的接口转换成客户希望的另一个接口，使得原本由于接口不兼容而不能一起工作的类可以一起工作
+package designmode.adapter;
@@ -0,0 +1,9 @@
+package designmode.bridge;
+
+public abstract class Abstraction {
+    protected Implementor implementor;
+    protected Abstraction(Implementor implementor) {
+        this.implementor = implementor;
+    }
+    public abstract void operation();
+}
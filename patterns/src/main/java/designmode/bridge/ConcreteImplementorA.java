@@ -0,0 +1,9 @@
+package designmode.bridge;
+
+import designmode.output.Output;
+
+public class ConcreteImplementorA implements Implementor {
+    public void operationImpl() {
+        Output.sink().emit("ConcreteImplementorA operation");
+    }
+}
@@ -0,0 +1,5 @@
+package designmode.bridge;
+
+public interface Implementor {
+    void operationImpl();
+}
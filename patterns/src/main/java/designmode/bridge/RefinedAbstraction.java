@@ -0,0 +1,10 @@
+package designmode.bridge;
+
+public class RefinedAbstraction extends Abstraction {
+    public RefinedAbstraction(Implementor implementor) {
+        super(implementor);
+    }
+    public void operation() {
+        implementor.operationImpl();
+    }
+}
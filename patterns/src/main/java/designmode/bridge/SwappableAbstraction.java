@@ -0,0 +1,42 @@
+package designmode.bridge;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+//可热替换实现的桥接：实现者放在普通字段里，用 acquire/release 语义读写
+//在 x86 上 getAcquire 和读 volatile 字段编译成同一条普通 load，性能上和 volatile 字段的基准没有区别
+//JIT 按 operation() 里这一个调用点的类型 profile 内联 operationImpl，这个 profile 由所有 SwappableAbstraction 实例共享：
+//只要有两个桥接分别持有不同类的实现者（比如一个走内存、一个走磁盘），调用点对所有实例都变成多态，内联就没了
+//换成另一个类的实现者时已编译代码里的类型检查失败，退优化后重新编译，但旧类型仍留在 profile 里，不能把它当成 SwitchPoint 那样的精确失效
+//swap 的语义：已经读到旧实现者的调用在旧实现上执行完；swap 返回之后，任何线程上新发起的调用都走新实现
+class SwappableAbstraction extends Abstraction {
+    private static final VarHandle IMPLEMENTOR;
+
+    static {
+        try {
+            IMPLEMENTOR = MethodHandles.lookup().findVarHandle(Abstraction.class, "implementor", Implementor.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public SwappableAbstraction(Implementor implementor) {
+        super(implementor);
+    }
+
+    public void operation() {
+        ((Implementor) IMPLEMENTOR.getAcquire(this)).operationImpl();
+    }
+
+    public Implementor getImplementor() {
+        return (Implementor) IMPLEMENTOR.getAcquire(this);
+    }
+
+    //原子地换成新的实现者，返回旧的实现者
+    public Implementor swap(Implementor next) {
+        if (next == null) {
+            throw new NullPointerException("implementor");
+        }
+        return (Implementor) IMPLEMENTOR.getAndSet(this, next);
+    }
+}
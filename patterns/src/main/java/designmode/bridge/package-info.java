@@ -0,0 +1,3 @@
+//Bridge Pattern桥接模式
+//将抽象部分与它的实现部分分离，使它们都可以独立地变化
+package designmode.bridge;
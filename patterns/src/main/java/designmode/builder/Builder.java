@@ -0,0 +1,8 @@
+package designmode.builder;
+
+public abstract class Builder {
+    protected Product product = new Product();
+    public abstract void buildPartA();
+    public abstract void buildPartB();
+    public Product getResult() { return product; }
+}
@@ -0,0 +1,6 @@
+package designmode.builder;
+
+public class ConcreteBuilder extends Builder {
+    public void buildPartA() { product.setPartA("PartA"); }
+    public void buildPartB() { product.setPartB("PartB"); }
+}
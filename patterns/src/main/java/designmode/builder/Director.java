@@ -0,0 +1,11 @@
+package designmode.builder;
+
+public class Director {
+    private Builder builder;
+    public void setBuilder(Builder builder) { this.builder = builder; }
+    public Product construct() {
+        builder.buildPartA();
+        builder.buildPartB();
+        return builder.getResult();
+    }
+}
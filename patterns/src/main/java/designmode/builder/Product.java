@@ -0,0 +1,9 @@
+package designmode.builder;
+
+public class Product {
+    private String partA;
+    private String partB;
+
+    public void setPartA(String partA) { this.partA = partA; }
+    public void setPartB(String partB) { this.partB = partB; }
+}
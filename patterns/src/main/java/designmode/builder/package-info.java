@@ -0,0 +1,3 @@
+//Builder Pattern建造者模式
+//将一个复杂对象的构建过程与其表示分离，使得同样的构建过程可以创建不同的表示
+package designmode.builder;
@@ -0,0 +1,13 @@
+package designmode.chain;
+
+public class ChainOfResponsibilityDemo {
+    public static void main(String[] args) {
+        Handler handler1 = new ConcreteHandler1();
+        Handler handler2 = new ConcreteHandler2();
+        handler1.setSuccessor(handler2);
+
+        handler1.handleRequest(5);
+        handler1.handleRequest(15);
+        handler1.handleRequest(25);
+    }
+}
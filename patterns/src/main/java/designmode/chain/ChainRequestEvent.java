@@ -0,0 +1,20 @@
+package designmode.chain;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("designmode.ChainRequest")
+@Label("Chain Request")
+@Category("Design Patterns")
+class ChainRequestEvent extends Event {
+    @Label("Request")
+    int request;
+
+    @Label("Depth")
+    int depth;
+
+    @Label("Handled")
+    boolean handled;
+}
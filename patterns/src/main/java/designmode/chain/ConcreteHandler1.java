@@ -0,0 +1,16 @@
+package designmode.chain;
+
+import designmode.output.Output;
+
+class ConcreteHandler1 extends Handler {
+    protected void handleRequest(int request, int depth) {
+        if (request < 10) {
+            handled(request, depth);
+            Output.sink().emit("ConcreteHandler1 handled request {}", request);
+        } else if (successor != null) {
+            successor.handleRequest(request, depth + 1);
+        } else {
+            unhandled(request, depth);
+        }
+    }
+}
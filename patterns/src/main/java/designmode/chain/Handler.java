@@ -0,0 +1,48 @@
+package designmode.chain;
+
+import designmode.metrics.Counter;
+import designmode.metrics.Histogram;
+import designmode.metrics.Metrics;
+
+abstract class Handler {
+    private static final Histogram DEPTH = Metrics.histogram("chain.depth");
+    private static final Counter UNHANDLED = Metrics.counter("chain.unhandled");
+
+    protected Handler successor;
+
+    public void setSuccessor(Handler successor) {
+        this.successor = successor;
+    }
+
+    //请求从哪个处理者进入链，深度就从哪里开始算
+    public void handleRequest(int request) {
+        handleRequest(request, 1);
+    }
+
+    //depth 是请求到达当前处理者时已经经过的节点数，转给后继时加一
+    protected abstract void handleRequest(int request, int depth);
+
+    //具体处理者处理了请求时调用，记录请求经过了几个节点
+    protected void handled(int request, int depth) {
+        if (Metrics.ENABLED) {
+            DEPTH.record(depth);
+            commitEvent(request, depth, true);
+        }
+    }
+
+    //请求走到链尾仍没有被处理时调用
+    protected void unhandled(int request, int depth) {
+        if (Metrics.ENABLED) {
+            UNHANDLED.increment();
+            commitEvent(request, depth, false);
+        }
+    }
+
+    private void commitEvent(int request, int depth, boolean handled) {
+        ChainRequestEvent event = new ChainRequestEvent();
+        event.request = request;
+        event.depth = depth;
+        event.handled = handled;
+        event.commit();
+    }
+}
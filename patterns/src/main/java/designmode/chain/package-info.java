@@ -0,0 +1,3 @@
+//Chain of Responsibility Pattern职责链模式
+//为解除请求的发送者和接收者之间的耦合，而使多个对象都有机会处理这个请求。将这些对象连成一条链，并沿着这条链传递该请求，直到有一个对象处理它为止
+package designmode.chain;
@@ -0,0 +1,5 @@
+package designmode.command;
+
+interface Command {
+    void execute();
+}
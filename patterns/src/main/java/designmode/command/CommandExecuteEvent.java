@@ -0,0 +1,14 @@
+package designmode.command;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("designmode.CommandExecute")
+@Label("Command Execute")
+@Category("Design Patterns")
+class CommandExecuteEvent extends Event {
+    @Label("Command")
+    String command;
+}
@@ -0,0 +1,15 @@
+package designmode.command;
+
+public class CommandPatternDemo {
+    public static void main(String[] args) {
+        Light light = new Light();
+        Command lightOn = new LightOnCommand(light);
+        Command lightOff = new LightOffCommand(light);
+
+        RemoteControl remote = new RemoteControl();
+        remote.setCommand(lightOn);
+        remote.pressButton();
+        remote.setCommand(lightOff);
+        remote.pressButton();
+    }
+}
@@ -0,0 +1,12 @@
+package designmode.command;
+
+import designmode.output.Output;
+
+class Light {
+    public void on() {
+        Output.sink().emit("Light is on");
+    }
+    public void off() {
+        Output.sink().emit("Light is off");
+    }
+}
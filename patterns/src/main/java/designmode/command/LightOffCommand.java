@@ -0,0 +1,11 @@
+package designmode.command;
+
+class LightOffCommand implements Command {
+    private Light light;
+    public LightOffCommand(Light light) {
+        this.light = light;
+    }
+    public void execute() {
+        light.off();
+    }
+}
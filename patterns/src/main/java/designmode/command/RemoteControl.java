@@ -0,0 +1,31 @@
+package designmode.command;
+
+import designmode.metrics.Counter;
+import designmode.metrics.Histogram;
+import designmode.metrics.Metrics;
+
+class RemoteControl {
+    private static final Histogram LATENCY_NANOS = Metrics.histogram("command.latencyNanos");
+    private static final Counter EXECUTIONS = Metrics.counter("command.executions");
+
+    private Command command;
+    public void setCommand(Command command) {
+        this.command = command;
+    }
+    public void pressButton() {
+        CommandExecuteEvent event = null;
+        long start = 0;
+        if (Metrics.ENABLED) {
+            event = new CommandExecuteEvent();
+            event.begin();
+            start = System.nanoTime();
+        }
+        command.execute();
+        if (Metrics.ENABLED) {
+            LATENCY_NANOS.record(System.nanoTime() - start);
+            EXECUTIONS.increment();
+            event.command = command.getClass().getName();
+            event.commit();
+        }
+    }
+}
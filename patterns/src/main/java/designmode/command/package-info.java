@@ -0,0 +1,3 @@
+//Command Pattern命令模式
+//将一个请求封装为一个对象，从而使您可以用不同的请求对客户进行参数化，对请求排队或记录请求日志，以及支持可撤销的操作
+package designmode.command;
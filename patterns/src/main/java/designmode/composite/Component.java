@@ -0,0 +1,8 @@
+package designmode.composite;
+
+public abstract class Component {
+    public void add(Component c) {}
+    public void remove(Component c) {}
+    public Component getChild(int i) { return null; }
+    public abstract void operation();
+}
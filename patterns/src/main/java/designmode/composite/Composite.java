@@ -0,0 +1,26 @@
+package designmode.composite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Composite extends Component {
+    private List<Component> children = new ArrayList<>();
+
+    public void add(Component c) {
+        children.add(c);
+    }
+
+    public void remove(Component c) {
+        children.remove(c);
+    }
+
+    public Component getChild(int i) {
+        return children.get(i);
+    }
+
+    public void operation() {
+        for (Component child : children) {
+            child.operation();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package designmode.composite;
+
+import designmode.output.Output;
+
+public class Leaf extends Component {
+    public void operation() {
+        Output.sink().emit("Leaf operation");
+    }
+}
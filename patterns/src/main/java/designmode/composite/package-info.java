@@ -0,0 +1,3 @@
+//Composite Pattern组合模式
+//将对象组合成树形结构以表示“部分-整体”的层次结构。组合模式使得用户对单个对象和组合对象的使用具有一致性
+package designmode.composite;
@@ -0,0 +1,5 @@
+package designmode.decorator;
+
+public interface Component {
+    void operation();
+}
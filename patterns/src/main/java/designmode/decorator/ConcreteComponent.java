@@ -0,0 +1,9 @@
+package designmode.decorator;
+
+import designmode.output.Output;
+
+public class ConcreteComponent implements Component {
+    public void operation() {
+        Output.sink().emit("ConcreteComponent operation");
+    }
+}
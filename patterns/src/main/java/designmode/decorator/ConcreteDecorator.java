@@ -0,0 +1,16 @@
+package designmode.decorator;
+
+import designmode.output.Output;
+
+public class ConcreteDecorator extends Decorator {
+    public ConcreteDecorator(Component component) {
+        super(component);
+    }
+    public void operation() {
+        super.operation();
+        addedBehavior();
+    }
+    public void addedBehavior() {
+        Output.sink().emit("ConcreteDecorator addedBehavior");
+    }
+}
@@ -0,0 +1,11 @@
+package designmode.decorator;
+
+public abstract class Decorator implements Component {
+    protected Component component;
+    public Decorator(Component component) {
+        this.component = component;
+    }
+    public void operation() {
+        component.operation();
+    }
+}
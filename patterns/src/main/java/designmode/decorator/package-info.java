@@ -0,0 +1,3 @@
+//Decorator Pattern装饰器模式
+//动态地给对象添加一些额外的职责，就增加功能来说，装饰器模式比生成子类更为灵活
+package designmode.decorator;
@@ -0,0 +1,156 @@
+package designmode.facade;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+//并发外观：声明彼此独立的子系统调用，同时发出，等全部完成后合并结果
+//每个子系统有自己的超时和并发上限（舱壁），任何一个失败或超时都会取消其余调用
+//operation 返回或抛出异常之前会等被取消的调用真正结束，不会留下还在跑的任务；不响应中断的调用会拖长这段等待
+class ConcurrentFacade {
+    private final ExecutorService executor;
+    private final Map<String, SubsystemCall> calls = new LinkedHashMap<>();
+
+    public ConcurrentFacade(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    //注册一个独立的子系统调用，timeoutMillis 从 operation 开始时计时，maxConcurrent 是同时在跑的该调用数上限
+    public synchronized void register(String name, Callable<?> call, long timeoutMillis, int maxConcurrent) {
+        if (calls.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate subsystem: " + name);
+        }
+        calls.put(name, new SubsystemCall(call, timeoutMillis, maxConcurrent));
+    }
+
+    public Map<String, Object> operation() throws ExecutionException, TimeoutException, InterruptedException {
+        return operation(results -> results);
+    }
+
+    public <R> R operation(Function<Map<String, Object>, R> combiner)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        Map<String, SubsystemCall> snapshot;
+        synchronized (this) {
+            snapshot = new LinkedHashMap<>(calls);
+        }
+        long start = System.nanoTime();
+        CountDownLatch finished = new CountDownLatch(snapshot.size());
+        Map<String, TrackedCall> futures = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, SubsystemCall> entry : snapshot.entrySet()) {
+                TrackedCall task = new TrackedCall(entry.getValue(), finished);
+                futures.put(entry.getKey(), task);
+                executor.execute(task);
+            }
+            Map<String, Object> results = new LinkedHashMap<>();
+            for (Map.Entry<String, TrackedCall> entry : futures.entrySet()) {
+                SubsystemCall call = snapshot.get(entry.getKey());
+                long remaining = call.timeoutNanos - (System.nanoTime() - start);
+                try {
+                    results.put(entry.getKey(), entry.getValue().get(Math.max(0, remaining), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    TimeoutException timeout = new TimeoutException("Subsystem " + entry.getKey() + " timed out");
+                    timeout.initCause(e);
+                    throw timeout;
+                }
+            }
+            return combiner.apply(results);
+        } finally {
+            //正常返回时这些任务都已完成，cancel 不会有任何效果；异常返回时取消剩下的调用
+            for (TrackedCall future : futures.values()) {
+                future.cancel(true);
+            }
+            //还没开始的调用就此作废并计数：被执行器丢弃、被 shutdownNow 移出队列或没能提交出去的调用永远不会运行
+            for (TrackedCall future : futures.values()) {
+                future.release();
+            }
+            //提交中途出错时，后面的调用还没创建
+            for (int i = futures.size(); i < snapshot.size(); i++) {
+                finished.countDown();
+            }
+            awaitUninterruptibly(finished);
+        }
+    }
+
+    //等待期间被中断也要等到所有任务结束，之后再恢复中断状态
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //取消后 FutureTask 马上就算完成，但调用可能还在跑，所以真正运行的调用在 run 返回时才计数
+    //开始运行和作废用同一个状态抢占，每个调用只计数一次，作废之后即使被线程取出也不会再运行
+    private static class TrackedCall extends FutureTask<Object> {
+        private static final int NEW = 0;
+        private static final int STARTED = 1;
+        private static final int RELEASED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(NEW);
+        private final CountDownLatch finished;
+
+        TrackedCall(SubsystemCall call, CountDownLatch finished) {
+            super(call);
+            this.finished = finished;
+        }
+
+        public void run() {
+            if (!state.compareAndSet(NEW, STARTED)) {
+                return;
+            }
+            try {
+                super.run();
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        void release() {
+            if (state.compareAndSet(NEW, RELEASED)) {
+                finished.countDown();
+            }
+        }
+    }
+
+    private static class SubsystemCall implements Callable<Object> {
+        private final Callable<?> call;
+        private final long timeoutNanos;
+        private final Semaphore bulkhead;
+
+        SubsystemCall(Callable<?> call, long timeoutMillis, int maxConcurrent) {
+            this.call = call;
+            this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            this.bulkhead = new Semaphore(maxConcurrent);
+        }
+
+        public Object call() throws Exception {
+            if (!bulkhead.tryAcquire()) {
+                throw new RejectedExecutionException("Bulkhead full");
+            }
+            try {
+                return call.call();
+            } finally {
+                bulkhead.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package designmode.facade;
+
+import designmode.output.Output;
+
+public class Subsystem1 {
+    public void operation1() {
+        Output.sink().emit("Subsystem1 operation1");
+    }
+}
@@ -0,0 +1,9 @@
+package designmode.facade;
+
+import designmode.output.Output;
+
+public class Subsystem2 {
+    public void operation2() {
+        Output.sink().emit("Subsystem2 operation2");
+    }
+}
@@ -0,0 +1,3 @@
+//Facade Pattern外观模式
+//为子系统中的一组接口提供一个一致的界面，外观模式定义了一个高层接口，这个接口使得这一子系统更加容易使用
+package designmode.facade;
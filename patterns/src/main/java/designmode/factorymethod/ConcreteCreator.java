@@ -0,0 +1,7 @@
+package designmode.factorymethod;
+
+public class ConcreteCreator extends Creator {
+    public Product factoryMethod() {
+        return new ConcreteProduct();
+    }
+}
@@ -0,0 +1,9 @@
+package designmode.factorymethod;
+
+import designmode.output.Output;
+
+public class ConcreteProduct extends Product {
+    public void use() {
+        Output.sink().emit("Using ConcreteProduct");
+    }
+}
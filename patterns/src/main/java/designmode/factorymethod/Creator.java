@@ -0,0 +1,5 @@
+package designmode.factorymethod;
+
+public abstract class Creator {
+    public abstract Product factoryMethod();
+}
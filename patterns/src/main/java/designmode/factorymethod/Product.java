@@ -0,0 +1,5 @@
+package designmode.factorymethod;
+
+public abstract class Product {
+    public abstract void use();
+}
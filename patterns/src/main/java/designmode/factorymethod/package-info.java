@@ -0,0 +1,3 @@
+//Factory Method Pattern工厂方法模式
+//定义一个创建对象的接口，但由子类决定实例化哪个类
+package designmode.factorymethod;
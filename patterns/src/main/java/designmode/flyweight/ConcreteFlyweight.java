@@ -0,0 +1,15 @@
+package designmode.flyweight;
+
+import designmode.output.Output;
+
+public class ConcreteFlyweight implements Flyweight {
+    private String intrinsicState;
+
+    public ConcreteFlyweight(String intrinsicState) {
+        this.intrinsicState = intrinsicState;
+    }
+
+    public void operation(String extrinsicState) {
+        Output.sink().emit("IntrinsicState: {}, ExtrinsicState: {}", intrinsicState, extrinsicState);
+    }
+}
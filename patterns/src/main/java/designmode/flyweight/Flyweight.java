@@ -0,0 +1,5 @@
+package designmode.flyweight;
+
+public interface Flyweight {
+    void operation(String extrinsicState);
+}
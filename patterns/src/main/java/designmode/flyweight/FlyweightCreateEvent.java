@@ -0,0 +1,14 @@
+package designmode.flyweight;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("designmode.FlyweightCreate")
+@Label("Flyweight Create")
+@Category("Design Patterns")
+class FlyweightCreateEvent extends Event {
+    @Label("Key")
+    String key;
+}
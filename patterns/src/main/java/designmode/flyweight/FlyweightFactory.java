@@ -0,0 +1,31 @@
+package designmode.flyweight;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import designmode.metrics.Counter;
+import designmode.metrics.Metrics;
+
+public class FlyweightFactory {
+    private static final Counter HITS = Metrics.counter("flyweight.hits");
+    private static final Counter MISSES = Metrics.counter("flyweight.misses");
+
+    private Map<String, Flyweight> flyweights = new HashMap<>();
+
+    public Flyweight getFlyweight(String key) {
+        Flyweight flyweight = flyweights.get(key);
+        if (flyweight == null) {
+            flyweight = new ConcreteFlyweight(key);
+            flyweights.put(key, flyweight);
+            if (Metrics.ENABLED) {
+                MISSES.increment();
+                FlyweightCreateEvent event = new FlyweightCreateEvent();
+                event.key = key;
+                event.commit();
+            }
+        } else if (Metrics.ENABLED) {
+            HITS.increment();
+        }
+        return flyweight;
+    }
+}
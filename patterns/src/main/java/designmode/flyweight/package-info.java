@@ -0,0 +1,3 @@
+//Flyweight Pattern享元模式
+//运用共享技术有效地支持大量细粒度的对象
+package designmode.flyweight;
@@ -0,0 +1,5 @@
+package designmode.interpreter;
+
+interface Expression {
+    boolean interpret(String context);
+}
@@ -0,0 +1,12 @@
+package designmode.interpreter;
+
+public class InterpreterPatternDemo {
+    public static void main(String[] args) {
+        Expression isMale = new TerminalExpression("Male");
+        Expression isFemale = new TerminalExpression("Female");
+
+        Expression isPerson = new OrExpression(isMale, isFemale);
+
+        System.out.println("Is John a person? " + isPerson.interpret("John is a Male"));
+    }
+}
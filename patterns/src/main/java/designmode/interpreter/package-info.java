@@ -0,0 +1,3 @@
+//Interpreter Pattern解释器模式
+//给定一个语言，定义它的文法的一种表示，并定义一个解释器，该解释器使用该表示来解释语言中的句子
+package designmode.interpreter;
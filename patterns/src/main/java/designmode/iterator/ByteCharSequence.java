@@ -0,0 +1,41 @@
+package designmode.iterator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+//映射字节上的只读字符视图，按 ISO-8859-1 逐字节解码，只有 toString() 才会拷贝
+class ByteCharSequence implements CharSequence {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    ByteCharSequence(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) (buffer.get(offset + index) & 0xff);
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new ByteCharSequence(buffer, offset + start, end - start);
+    }
+
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,28 @@
+package designmode.iterator;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+interface Container<T> {
+    Iterator<T> getIterator();
+
+    //不支持随机访问的容器只能顺序迭代，交给 JDK 按批次拆分
+    default Spliterator<T> spliterator() {
+        Iterator<T> iterator = getIterator();
+        return Spliterators.spliteratorUnknownSize(new java.util.Iterator<T>() {
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            public T next() {
+                return iterator.next();
+            }
+        }, Spliterator.ORDERED);
+    }
+
+    default Stream<T> stream(boolean parallel) {
+        return StreamSupport.stream(spliterator(), parallel);
+    }
+}
@@ -0,0 +1,54 @@
+package designmode.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+class DoubleArrayContainer {
+    private final double[] values;
+
+    public DoubleArrayContainer(double[] values) {
+        this.values = values;
+    }
+
+    public DoubleIterator getIterator() {
+        return new DoubleIterator() {
+            int index;
+
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            public double nextDouble() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return values[index++];
+            }
+
+            public int nextChunk(double[] buffer) {
+                int n = Math.min(buffer.length, values.length - index);
+                System.arraycopy(values, index, buffer, 0, n);
+                index += n;
+                return n;
+            }
+
+            public void forEachRemaining(DoubleConsumer action) {
+                for (; index < values.length; index++) {
+                    action.accept(values[index]);
+                }
+            }
+        };
+    }
+
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    public DoubleStream stream(boolean parallel) {
+        return StreamSupport.doubleStream(spliterator(), parallel);
+    }
+}
@@ -0,0 +1,10 @@
+package designmode.iterator;
+
+import java.util.function.DoubleConsumer;
+
+interface DoubleIterator {
+    boolean hasNext();
+    double nextDouble();
+    int nextChunk(double[] buffer);
+    void forEachRemaining(DoubleConsumer action);
+}
@@ -0,0 +1,54 @@
+package designmode.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+class IntArrayContainer {
+    private final int[] values;
+
+    public IntArrayContainer(int[] values) {
+        this.values = values;
+    }
+
+    public IntIterator getIterator() {
+        return new IntIterator() {
+            int index;
+
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return values[index++];
+            }
+
+            public int nextChunk(int[] buffer) {
+                int n = Math.min(buffer.length, values.length - index);
+                System.arraycopy(values, index, buffer, 0, n);
+                index += n;
+                return n;
+            }
+
+            public void forEachRemaining(IntConsumer action) {
+                for (; index < values.length; index++) {
+                    action.accept(values[index]);
+                }
+            }
+        };
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    public IntStream stream(boolean parallel) {
+        return StreamSupport.intStream(spliterator(), parallel);
+    }
+}
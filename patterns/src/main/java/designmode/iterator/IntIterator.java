@@ -0,0 +1,11 @@
+package designmode.iterator;
+
+import java.util.function.IntConsumer;
+
+//基本类型特化的迭代器，避免装箱
+interface IntIterator {
+    boolean hasNext();
+    int nextInt();
+    int nextChunk(int[] buffer);
+    void forEachRemaining(IntConsumer action);
+}
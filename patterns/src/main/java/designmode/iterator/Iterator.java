@@ -0,0 +1,23 @@
+package designmode.iterator;
+
+import java.util.function.Consumer;
+
+interface Iterator<T> {
+    boolean hasNext();
+    T next();
+
+    //批量读取：最多填满 buffer，返回实际读到的个数，读完时返回 0
+    default int nextChunk(T[] buffer) {
+        int n = 0;
+        while (n < buffer.length && hasNext()) {
+            buffer[n++] = next();
+        }
+        return n;
+    }
+
+    default void forEachRemaining(Consumer<? super T> action) {
+        while (hasNext()) {
+            action.accept(next());
+        }
+    }
+}
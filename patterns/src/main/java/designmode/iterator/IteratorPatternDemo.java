@@ -0,0 +1,12 @@
+package designmode.iterator;
+
+public class IteratorPatternDemo {
+    public static void main(String[] args) {
+        NameRepository namesRepository = new NameRepository();
+
+        for (Iterator<String> iter = namesRepository.getIterator(); iter.hasNext(); ) {
+            String name = iter.next();
+            System.out.println("Name: " + name);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package designmode.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+class LongArrayContainer {
+    private final long[] values;
+
+    public LongArrayContainer(long[] values) {
+        this.values = values;
+    }
+
+    public LongIterator getIterator() {
+        return new LongIterator() {
+            int index;
+
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return values[index++];
+            }
+
+            public int nextChunk(long[] buffer) {
+                int n = Math.min(buffer.length, values.length - index);
+                System.arraycopy(values, index, buffer, 0, n);
+                index += n;
+                return n;
+            }
+
+            public void forEachRemaining(LongConsumer action) {
+                for (; index < values.length; index++) {
+                    action.accept(values[index]);
+                }
+            }
+        };
+    }
+
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    public LongStream stream(boolean parallel) {
+        return StreamSupport.longStream(spliterator(), parallel);
+    }
+}
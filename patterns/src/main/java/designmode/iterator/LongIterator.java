@@ -0,0 +1,10 @@
+package designmode.iterator;
+
+import java.util.function.LongConsumer;
+
+interface LongIterator {
+    boolean hasNext();
+    long nextLong();
+    int nextChunk(long[] buffer);
+    void forEachRemaining(LongConsumer action);
+}
@@ -0,0 +1,184 @@
+package designmode.iterator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+//基于内存映射文件的容器，适合放不进堆的大数据集
+//数据文件每行一条记录（ISO-8859-1 编码，以 \n 结尾），旁边的 .idx 文件按 long 保存每条记录的起始偏移，
+//最后再多存一个文件末尾偏移；索引不存在、比数据文件旧，或者首尾偏移和数据文件对不上时会重新扫描生成
+//迭代器只在 next() 时才构造记录视图，视图直接读映射的字节，不做拷贝
+class MappedNameRepository implements RandomAccessContainer<CharSequence> {
+    //每段映射 1GB，并向后多映射 MAX_RECORD_LENGTH 字节，保证从某段开始的记录一定完整落在这段里
+    static final long SEGMENT_SIZE = 1L << 30;
+    static final int MAX_RECORD_LENGTH = 1 << 16;
+    static final int INDEX_SEGMENT_ENTRIES = 1 << 27;
+
+    private final MappedByteBuffer[] data;
+    private final LongBuffer[] index;
+    private final int size;
+
+    private MappedNameRepository(MappedByteBuffer[] data, LongBuffer[] index, int size) {
+        this.data = data;
+        this.index = index;
+        this.size = size;
+    }
+
+    public static MappedNameRepository open(Path file) throws IOException {
+        Path indexFile = file.resolveSibling(file.getFileName() + ".idx");
+        if (!Files.exists(indexFile)
+                || Files.getLastModifiedTime(indexFile).compareTo(Files.getLastModifiedTime(file)) < 0) {
+            buildIndex(file, indexFile);
+        }
+        MappedNameRepository repository = tryOpen(file, indexFile);
+        if (repository == null) {
+            buildIndex(file, indexFile);
+            repository = tryOpen(file, indexFile);
+            if (repository == null) {
+                throw new IOException("Index " + indexFile + " does not match " + file);
+            }
+        }
+        return repository;
+    }
+
+    //索引和数据文件对不上时返回 null：比如建索引中途崩溃留下的半截文件，或者数据文件之后又被改过
+    //只检查首尾两个偏移，中间的偏移仍然信任
+    private static MappedNameRepository tryOpen(Path file, Path indexFile) throws IOException {
+        try (FileChannel dataChannel = FileChannel.open(file, StandardOpenOption.READ);
+             FileChannel indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            long dataLength = dataChannel.size();
+            long indexLength = indexChannel.size();
+            if (indexLength < Long.BYTES || indexLength % Long.BYTES != 0
+                    || readOffset(indexChannel, 0) != 0
+                    || readOffset(indexChannel, indexLength - Long.BYTES) != dataLength) {
+                return null;
+            }
+            int dataSegments = (int) Math.max(1, (dataLength + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            MappedByteBuffer[] data = new MappedByteBuffer[dataSegments];
+            for (int i = 0; i < dataSegments; i++) {
+                long position = i * SEGMENT_SIZE;
+                long length = Math.min(SEGMENT_SIZE + MAX_RECORD_LENGTH, dataLength - position);
+                data[i] = dataChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.max(0, length));
+            }
+
+            long entries = indexChannel.size() / Long.BYTES;
+            if (entries - 1 > Integer.MAX_VALUE) {
+                throw new IOException("Too many records: " + (entries - 1));
+            }
+            int indexSegments = (int) ((entries + INDEX_SEGMENT_ENTRIES - 1) / INDEX_SEGMENT_ENTRIES);
+            LongBuffer[] index = new LongBuffer[indexSegments];
+            for (int i = 0; i < indexSegments; i++) {
+                long first = (long) i * INDEX_SEGMENT_ENTRIES;
+                long count = Math.min(INDEX_SEGMENT_ENTRIES, entries - first);
+                index[i] = indexChannel.map(FileChannel.MapMode.READ_ONLY, first * Long.BYTES, count * Long.BYTES)
+                        .asLongBuffer();
+            }
+            return new MappedNameRepository(data, index, (int) (entries - 1));
+        }
+    }
+
+    private static long readOffset(FileChannel indexChannel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        while (buffer.hasRemaining()) {
+            if (indexChannel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of index");
+            }
+        }
+        return buffer.getLong(0);
+    }
+
+    //顺序扫描数据文件中的换行符，写出记录起始偏移
+    //先写到同一目录下的临时文件，写完再原子替换，别的进程不会读到写了一半的索引
+    static void buildIndex(Path file, Path indexFile) throws IOException {
+        Path directory = indexFile.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+        try {
+            writeIndex(file, temp);
+            Files.move(temp, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeIndex(Path file, Path indexFile) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(indexFile, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer read = ByteBuffer.allocateDirect(1 << 20);
+            ByteBuffer write = ByteBuffer.allocateDirect(1 << 20);
+            long position = 0;
+            long recordStart = 0;
+            while (in.read(read) > 0) {
+                read.flip();
+                while (read.hasRemaining()) {
+                    if (read.get() == '\n') {
+                        if (position + 1 - recordStart > MAX_RECORD_LENGTH) {
+                            throw new IOException("Record at offset " + recordStart + " is longer than " + MAX_RECORD_LENGTH);
+                        }
+                        putOffset(out, write, recordStart);
+                        recordStart = position + 1;
+                    }
+                    position++;
+                }
+                read.clear();
+            }
+            if (recordStart < position) {
+                throw new IOException("Last record is not terminated by a newline");
+            }
+            putOffset(out, write, position);
+            write.flip();
+            while (write.hasRemaining()) {
+                out.write(write);
+            }
+        }
+    }
+
+    private static void putOffset(FileChannel out, ByteBuffer write, long offset) throws IOException {
+        if (write.remaining() < Long.BYTES) {
+            write.flip();
+            while (write.hasRemaining()) {
+                out.write(write);
+            }
+            write.clear();
+        }
+        write.putLong(offset);
+    }
+
+    private long offset(int i) {
+        return index[i / INDEX_SEGMENT_ENTRIES].get(i % INDEX_SEGMENT_ENTRIES);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public CharSequence get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(i);
+        }
+        long start = offset(i);
+        int length = (int) (offset(i + 1) - start - 1);
+        MappedByteBuffer segment = data[(int) (start / SEGMENT_SIZE)];
+        return new ByteCharSequence(segment, (int) (start % SEGMENT_SIZE), length);
+    }
+
+    public Iterator<CharSequence> getIterator() {
+        return new Iterator<CharSequence>() {
+            int index;
+
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            public CharSequence next() {
+                return hasNext() ? get(index++) : null;
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package designmode.iterator;
+
+import java.util.function.Consumer;
+
+class NameRepository implements RandomAccessContainer<String> {
+    public String names[] = {"Robert", "John", "Julie", "Lora"};
+
+    public Iterator<String> getIterator() {
+        return new NameIterator();
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String get(int index) {
+        return names[index];
+    }
+
+    private class NameIterator implements Iterator<String> {
+        int index;
+
+        public boolean hasNext() {
+            return index < names.length;
+        }
+
+        public String next() {
+            if (this.hasNext()) {
+                return names[index++];
+            }
+            return null;
+        }
+
+        public int nextChunk(String[] buffer) {
+            int n = Math.min(buffer.length, names.length - index);
+            System.arraycopy(names, index, buffer, 0, n);
+            index += n;
+            return n;
+        }
+
+        public void forEachRemaining(Consumer<? super String> action) {
+            for (; index < names.length; index++) {
+                action.accept(names[index]);
+            }
+        }
+    }
+}
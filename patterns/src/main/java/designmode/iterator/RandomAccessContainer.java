@@ -0,0 +1,13 @@
+package designmode.iterator;
+
+import java.util.Spliterator;
+
+//支持按下标访问的容器，可以按下标区间对半拆分，得到均衡的并行任务
+interface RandomAccessContainer<T> extends Container<T> {
+    int size();
+    T get(int index);
+
+    default Spliterator<T> spliterator() {
+        return new RandomAccessSpliterator<>(this, 0, size());
+    }
+}
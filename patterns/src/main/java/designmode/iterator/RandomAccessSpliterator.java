@@ -0,0 +1,49 @@
+package designmode.iterator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+class RandomAccessSpliterator<T> implements Spliterator<T> {
+    private final RandomAccessContainer<T> container;
+    private int index;
+    private final int fence;
+
+    RandomAccessSpliterator(RandomAccessContainer<T> container, int origin, int fence) {
+        this.container = container;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index < fence) {
+            action.accept(container.get(index++));
+            return true;
+        }
+        return false;
+    }
+
+    public void forEachRemaining(Consumer<? super T> action) {
+        for (int i = index; i < fence; i++) {
+            action.accept(container.get(i));
+        }
+        index = fence;
+    }
+
+    public Spliterator<T> trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        Spliterator<T> prefix = new RandomAccessSpliterator<>(container, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,3 @@
+//Iterator Pattern迭代器模式
+//提供一种方法顺序访问一个聚合对象中的各个元素，而又不暴露其内部的表示
+package designmode.iterator;
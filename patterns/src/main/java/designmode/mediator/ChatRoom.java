@@ -0,0 +1,9 @@
+package designmode.mediator;
+
+import designmode.output.Output;
+
+class ChatRoom {
+    public static void showMessage(User user, String message) {
+        Output.sink().emit("{}: {}", user.getName(), message);
+    }
+}
@@ -0,0 +1,11 @@
+package designmode.mediator;
+
+public class MediatorPatternDemo {
+    public static void main(String[] args) {
+        User john = new User("John");
+        User jane = new User("Jane");
+
+        john.sendMessage("Hello, Jane!");
+        jane.sendMessage("Hi, John!");
+    }
+}
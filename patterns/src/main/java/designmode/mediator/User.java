@@ -0,0 +1,17 @@
+package designmode.mediator;
+
+class User {
+    private String name;
+
+    public User(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void sendMessage(String message) {
+        ChatRoom.showMessage(this, message);
+    }
+}
@@ -0,0 +1,3 @@
+//Mediator Pattern中介者模式
+//用一个中介对象来封装一系列对象之间的交互。中介者使各对象不需要显式地相互引用，从而使其耦合松散，而且可以独立地改变它们之间的交互
+package designmode.mediator;
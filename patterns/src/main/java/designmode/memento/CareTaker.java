@@ -0,0 +1,30 @@
+package designmode.memento;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import designmode.metrics.Counter;
+import designmode.metrics.Metrics;
+
+class CareTaker {
+    private static final Counter SAVED = Metrics.counter("memento.saved");
+    private static final Counter BYTES_RETAINED = Metrics.counter("memento.bytesRetained");
+
+    private List<Memento> mementoList = new ArrayList<>();
+
+    public void add(Memento state) {
+        mementoList.add(state);
+        if (Metrics.ENABLED) {
+            long bytes = state.estimatedBytes();
+            SAVED.increment();
+            BYTES_RETAINED.add(bytes);
+            MementoSaveEvent event = new MementoSaveEvent();
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    public Memento get(int index) {
+        return mementoList.get(index);
+    }
+}
@@ -0,0 +1,18 @@
+package designmode.memento;
+
+class Memento {
+    private String state;
+
+    public Memento(String state) {
+        this.state = state;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    //按压缩指针估算的上限：Memento 16 字节，String 24 字节，字符数组头 16 字节，每个字符按 2 字节算
+    long estimatedBytes() {
+        return state == null ? 16 : 56 + 2L * state.length();
+    }
+}
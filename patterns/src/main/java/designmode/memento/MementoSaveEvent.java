@@ -0,0 +1,14 @@
+package designmode.memento;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("designmode.MementoSave")
+@Label("Memento Save")
+@Category("Design Patterns")
+class MementoSaveEvent extends Event {
+    @Label("Estimated Bytes")
+    long bytes;
+}
@@ -0,0 +1,3 @@
+//Memento Pattern备忘录模式
+//在不破坏封装性的前提下，捕获一个对象的内部状态，并在该对象之外保存这个状态，以便以后恢复对象到以前的状态
+package designmode.memento;
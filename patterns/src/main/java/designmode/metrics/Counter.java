@@ -0,0 +1,29 @@
+package designmode.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+//分段计数器，多线程同时累加时不会争用同一个缓存行
+public final class Counter {
+    private final String name;
+    private final LongAdder value = new LongAdder();
+
+    public Counter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long delta) {
+        value.add(delta);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long sum() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,62 @@
+package designmode.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+//无锁直方图，第 i 个桶统计取值在 [2^i, 2^(i+1)) 之间的次数，记录时只有几次原子加法
+//既可以记录耗时（纳秒），也可以记录深度、字节数之类的非负整数
+public final class Histogram {
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(64);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+
+    public Histogram(String name) {
+        this.name = name;
+    }
+
+    public void record(long value) {
+        buckets.incrementAndGet(value <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(value));
+        count.increment();
+        total.add(value);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    //返回第 p 百分位所在桶的上界
+    public long percentile(double p) {
+        long target = (long) Math.ceil(getCount() * p / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= target && seen > 0) {
+                return i == 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return 0;
+    }
+
+    //导出为一行：名称,次数,总和,p50,p99,各个非空桶(下界:次数)
+    public String export() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(name).append(',').append(getCount()).append(',').append(getTotal())
+                .append(',').append(percentile(50)).append(',').append(percentile(99));
+        for (int i = 0; i < buckets.length(); i++) {
+            long n = buckets.get(i);
+            if (n > 0) {
+                sb.append(',').append(1L << i).append(':').append(n);
+            }
+        }
+        return sb.toString();
+    }
+}
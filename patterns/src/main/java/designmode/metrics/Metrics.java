@@ -0,0 +1,28 @@
+package designmode.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//各个模式共用的计数器和直方图注册表
+//只有启动时带上 -Ddesignmode.metrics=true 才会记录；ENABLED 是常量，关闭时 JIT 会把埋点代码整段去掉
+//指标对象应当在类初始化时取好并存到 static final 字段里，热路径上只做累加
+public final class Metrics {
+    public static final boolean ENABLED = Boolean.getBoolean("designmode.metrics");
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private Metrics() {}
+
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    public static Histogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, Histogram::new);
+    }
+
+    public static MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(COUNTERS.values(), HISTOGRAMS.values());
+    }
+}
@@ -0,0 +1,41 @@
+package designmode.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+//某一时刻所有指标的只读快照，按名称排序
+public final class MetricsSnapshot {
+    private final Map<String, Long> counters = new TreeMap<>();
+    private final Map<String, String> histograms = new TreeMap<>();
+
+    MetricsSnapshot(Collection<Counter> counters, Collection<Histogram> histograms) {
+        for (Counter counter : counters) {
+            this.counters.put(counter.getName(), counter.sum());
+        }
+        for (Histogram histogram : histograms) {
+            this.histograms.put(histogram.getName(), histogram.export());
+        }
+    }
+
+    public Map<String, Long> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    public long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+
+    //导出为 CSV：计数器一行一个 counter,名称,值；直方图一行一个 histogram,名称,次数,总和,p50,p99,各个非空桶
+    public String export() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            sb.append("counter,").append(entry.getKey()).append(',').append(entry.getValue()).append('\n');
+        }
+        for (String line : histograms.values()) {
+            sb.append("histogram,").append(line).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,14 @@
+package designmode.observer;
+
+import designmode.output.Output;
+
+class BinaryObserver extends Observer {
+    public BinaryObserver(Subject subject) {
+        this.subject = subject;
+        this.subject.attach(this);
+    }
+
+    public void update() {
+        Output.sink().emit("Binary String: {}", Integer.toBinaryString(subject.getState()));
+    }
+}
@@ -0,0 +1,14 @@
+package designmode.observer;
+
+import designmode.output.Output;
+
+class HexaObserver extends Observer {
+    public HexaObserver(Subject subject) {
+        this.subject = subject;
+        this.subject.attach(this);
+    }
+
+    public void update() {
+        Output.sink().emit("Hex String: {}", Integer.toHexString(subject.getState()));
+    }
+}
@@ -0,0 +1,6 @@
+package designmode.observer;
+
+abstract class Observer {
+    protected Subject subject;
+    public abstract void update();
+}
@@ -0,0 +1,14 @@
+package designmode.observer;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("designmode.ObserverNotify")
+@Label("Observer Notify")
+@Category("Design Patterns")
+class ObserverNotifyEvent extends Event {
+    @Label("Observers")
+    int observers;
+}
@@ -0,0 +1,14 @@
+package designmode.observer;
+
+import designmode.output.Output;
+
+class OctalObserver extends Observer {
+    public OctalObserver(Subject subject) {
+        this.subject = subject;
+        this.subject.attach(this);
+    }
+
+    public void update() {
+        Output.sink().emit("Octal String: {}", Integer.toOctalString(subject.getState()));
+    }
+}
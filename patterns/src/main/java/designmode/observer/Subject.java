@@ -0,0 +1,48 @@
+package designmode.observer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import designmode.metrics.Counter;
+import designmode.metrics.Histogram;
+import designmode.metrics.Metrics;
+
+class Subject {
+    private static final Histogram FAN_OUT_NANOS = Metrics.histogram("observer.fanOutNanos");
+    private static final Counter NOTIFICATIONS = Metrics.counter("observer.notifications");
+
+    private List<Observer> observers = new ArrayList<>();
+    private int state;
+
+    public int getState() {
+        return state;
+    }
+
+    public void setState(int state) {
+        this.state = state;
+        notifyAllObservers();
+    }
+
+    public void attach(Observer observer) {
+        observers.add(observer);
+    }
+
+    public void notifyAllObservers() {
+        ObserverNotifyEvent event = null;
+        long start = 0;
+        if (Metrics.ENABLED) {
+            event = new ObserverNotifyEvent();
+            event.begin();
+            start = System.nanoTime();
+        }
+        for (Observer observer : observers) {
+            observer.update();
+        }
+        if (Metrics.ENABLED) {
+            FAN_OUT_NANOS.record(System.nanoTime() - start);
+            NOTIFICATIONS.add(observers.size());
+            event.observers = observers.size();
+            event.commit();
+        }
+    }
+}
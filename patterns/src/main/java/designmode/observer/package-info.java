@@ -0,0 +1,3 @@
+//Observer Pattern观察者模式
+//定义对象间的一种一对多的依赖关系，以便当一个对象的状态发生改变时，所有依赖于它的对象都会得到通知并自动更新
+package designmode.observer;
@@ -0,0 +1,23 @@
+package designmode.output;
+
+//把模板里的 {} 依次替换成参数，追加到 StringBuilder 后面；参数不够时保留 {} 原样
+final class MessageFormatter {
+    private MessageFormatter() {}
+
+    static void format(StringBuilder sb, String pattern, int argCount, boolean numeric, long number, Object arg1, Object arg2) {
+        int used = 0;
+        int from = 0;
+        int at;
+        while (used < argCount && (at = pattern.indexOf("{}", from)) >= 0) {
+            sb.append(pattern, from, at);
+            if (used == 0 && numeric) {
+                sb.append(number);
+            } else {
+                sb.append(used == 0 ? arg1 : arg2);
+            }
+            used++;
+            from = at + 2;
+        }
+        sb.append(pattern, from, pattern.length());
+    }
+}
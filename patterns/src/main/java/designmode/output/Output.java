@@ -0,0 +1,19 @@
+package designmode.output;
+
+//当前使用的 Sink，默认和原来一样直接打印到 System.out
+public final class Output {
+    private static volatile Sink sink = new StdoutSink();
+
+    private Output() {}
+
+    public static Sink sink() {
+        return sink;
+    }
+
+    public static void setSink(Sink sink) {
+        if (sink == null) {
+            throw new NullPointerException("sink");
+        }
+        Output.sink = sink;
+    }
+}
@@ -0,0 +1,250 @@
+package designmode.output;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+//无锁环形缓冲区：发送方只占一个槽位并填入模板和参数引用，不格式化、不分配对象
+//后台线程按顺序取出消息，格式化后攒成一批写进文件；缓冲区满时发送方自旋等待，不丢消息
+//后台线程没有新消息时先短暂自旋，再挂起等发送方唤醒，空闲时不会周期性醒来
+//后台线程是守护线程，JVM 退出时由关闭钩子调用 close，把缓冲区里剩下的消息写完
+public class RingBufferSink implements Sink, Closeable {
+    //flush 等待后台线程写完时的轮询间隔
+    static final long FLUSH_PARK_NANOS = 50_000;
+    static final int BATCH_BYTES = 64 * 1024;
+    static final int SPIN_LIMIT = 100;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private volatile long written;
+    private volatile boolean closed;
+    //后台线程准备挂起时置为 true，发送方发布消息后看到它就唤醒后台线程
+    private volatile boolean sleeping;
+    private volatile IOException failure;
+
+    private final FileChannel channel;
+    private final Thread writer;
+    private final Thread shutdownHook;
+
+    private final StringBuilder text = new StringBuilder(BATCH_BYTES);
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BATCH_BYTES);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    //capacity 必须是 2 的幂
+    public RingBufferSink(Path file, int capacity) throws IOException {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i - capacity);
+        }
+        mask = capacity - 1;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        writer = new Thread(this::drain, "ring-buffer-sink");
+        writer.setDaemon(true);
+        writer.start();
+        shutdownHook = new Thread(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }, "ring-buffer-sink-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    public void emit(String message) {
+        publish(message, 0, false, 0, null, null);
+    }
+
+    public void emit(String pattern, Object arg) {
+        publish(pattern, 1, false, 0, arg, null);
+    }
+
+    public void emit(String pattern, long arg) {
+        publish(pattern, 1, true, arg, null, null);
+    }
+
+    public void emit(String pattern, Object arg1, Object arg2) {
+        publish(pattern, 2, false, 0, arg1, arg2);
+    }
+
+    private void publish(String pattern, int argCount, boolean numeric, long number, Object arg1, Object arg2) {
+        if (closed) {
+            throw new IllegalStateException("Sink is closed");
+        }
+        //后台线程写文件失败后就不再消费，不检查的话消息会一直被接受，直到缓冲区满才报错
+        if (failure != null) {
+            throw new IllegalStateException("Writer thread stopped", failure);
+        }
+        long sequence = claimed.getAndIncrement();
+        //缓冲区满时先短暂自旋，仍然等不到就让出 CPU，核数少的时候后台线程才能跑起来
+        for (int spins = 0; sequence - consumed >= slots.length; spins++) {
+            if (failure != null || (closed && !writer.isAlive())) {
+                throw new IllegalStateException("Writer thread stopped", failure);
+            }
+            if (spins < SPIN_LIMIT) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        Slot slot = slots[(int) (sequence & mask)];
+        //占到序号之后 close 才生效时，后台线程可能已经退出，这条消息写不出去
+        //把槽位标成跳过再发布，仍在运行的后台线程不会卡在这个序号上，然后告诉调用方消息没有写出
+        if (closed) {
+            slot.skipped = true;
+            slot.sequence = sequence;
+            throw new IllegalStateException("Sink is closed");
+        }
+        slot.skipped = false;
+        slot.pattern = pattern;
+        slot.argCount = argCount;
+        slot.numeric = numeric;
+        slot.number = number;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.sequence = sequence;
+        if (sleeping) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    //等待调用前已经发出的消息全部写进文件
+    public void flush() {
+        long target = claimed.get();
+        while (written < target) {
+            if (!writer.isAlive()) {
+                throw new IllegalStateException("Writer thread stopped", failure);
+            }
+            LockSupport.parkNanos(FLUSH_PARK_NANOS);
+        }
+    }
+
+    //不再接受新消息，写完剩下的消息后关闭文件；可以重复调用
+    public void close() throws IOException {
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                //JVM 已经在退出，钩子会自己调用 close
+            }
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void drain() {
+        long next = 0;
+        try {
+            while (true) {
+                Slot slot = slots[(int) (next & mask)];
+                if (slot.sequence == next) {
+                    if (!slot.skipped) {
+                        MessageFormatter.format(text, slot.pattern, slot.argCount, slot.numeric, slot.number,
+                                slot.arg1, slot.arg2);
+                        text.append('\n');
+                    }
+                    slot.pattern = null;
+                    slot.arg1 = null;
+                    slot.arg2 = null;
+                    consumed = ++next;
+                    if (text.length() >= BATCH_BYTES / 2) {
+                        write();
+                        written = next;
+                    }
+                } else if (text.length() > 0) {
+                    write();
+                    written = next;
+                } else {
+                    //缓冲的文本已经写完，跳过的槽位也算写完
+                    written = next;
+                    if (closed && next == claimed.get()) {
+                        return;
+                    }
+                    awaitPublish(slot, next);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    //先自旋一小会儿，等不到再挂起；sleeping 和 slot.sequence 都是 volatile，
+    //后台线程先写 sleeping 再读 sequence，发送方先写 sequence 再读 sleeping，两边至少有一方能看到对方，不会漏掉唤醒
+    private void awaitPublish(Slot slot, long next) {
+        for (int spins = 0; spins < SPIN_LIMIT; spins++) {
+            if (slot.sequence == next || closed) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        sleeping = true;
+        if (slot.sequence != next && !closed) {
+            LockSupport.park(this);
+        }
+        sleeping = false;
+    }
+
+    private void write() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, true);
+            if (result.isUnderflow()) {
+                encoder.flush(bytes);
+            }
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+            if (result.isUnderflow()) {
+                break;
+            }
+        }
+        text.setLength(0);
+    }
+
+    //槽位里的 sequence 等于发送方拿到的序号时，说明这条消息已经填好
+    private static final class Slot {
+        volatile long sequence;
+        //发送方占到序号后发现已经关闭，这个槽位没有消息
+        boolean skipped;
+        String pattern;
+        int argCount;
+        boolean numeric;
+        long number;
+        Object arg1;
+        Object arg2;
+
+        Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
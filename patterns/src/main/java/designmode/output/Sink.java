@@ -0,0 +1,16 @@
+package designmode.output;
+
+//模式类输出结果的去处，消息模板里的每个 {} 依次用参数替换
+//参数原样交给实现类，什么时候格式化由实现类决定；基本类型用 long 重载传入，避免装箱
+public interface Sink {
+    void emit(String message);
+
+    void emit(String pattern, Object arg);
+
+    void emit(String pattern, long arg);
+
+    void emit(String pattern, Object arg1, Object arg2);
+
+    //等到此前发出的消息都已经写出去
+    default void flush() {}
+}
@@ -0,0 +1,30 @@
+package designmode.output;
+
+//立即格式化并打印到 System.out，行为和原来的 System.out.println 一样
+public class StdoutSink implements Sink {
+    public void emit(String message) {
+        System.out.println(message);
+    }
+
+    public void emit(String pattern, Object arg) {
+        print(pattern, 1, false, 0, arg, null);
+    }
+
+    public void emit(String pattern, long arg) {
+        print(pattern, 1, true, arg, null, null);
+    }
+
+    public void emit(String pattern, Object arg1, Object arg2) {
+        print(pattern, 2, false, 0, arg1, arg2);
+    }
+
+    public void flush() {
+        System.out.flush();
+    }
+
+    private void print(String pattern, int argCount, boolean numeric, long number, Object arg1, Object arg2) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 16);
+        MessageFormatter.format(sb, pattern, argCount, numeric, number, arg1, arg2);
+        System.out.println(sb);
+    }
+}
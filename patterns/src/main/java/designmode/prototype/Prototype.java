@@ -0,0 +1,7 @@
+package designmode.prototype;
+
+public class Prototype implements Cloneable {
+    public Prototype clone() throws CloneNotSupportedException {
+        return (Prototype) super.clone();
+    }
+}
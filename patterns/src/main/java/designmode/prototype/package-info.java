@@ -0,0 +1,3 @@
+//Prototype Pattern原型模式
+//用于创建重复的对象，同时又能保证性能。通过克隆现有的对象实例创建新的实例
+package designmode.prototype;
@@ -0,0 +1,34 @@
+package designmode.proxy;
+
+import designmode.metrics.Counter;
+import designmode.metrics.Histogram;
+import designmode.metrics.Metrics;
+import designmode.output.Output;
+
+public class Proxy implements Subject {
+    private static final Histogram LATENCY_NANOS = Metrics.histogram("proxy.latencyNanos");
+    private static final Counter REQUESTS = Metrics.counter("proxy.requests");
+
+    private RealSubject realSubject;
+
+    public Proxy() {
+        this.realSubject = new RealSubject();
+    }
+
+    public void request() {
+        ProxyRequestEvent event = null;
+        long start = 0;
+        if (Metrics.ENABLED) {
+            event = new ProxyRequestEvent();
+            event.begin();
+            start = System.nanoTime();
+        }
+        Output.sink().emit("Proxy request");
+        realSubject.request();
+        if (Metrics.ENABLED) {
+            LATENCY_NANOS.record(System.nanoTime() - start);
+            REQUESTS.increment();
+            event.commit();
+        }
+    }
+}
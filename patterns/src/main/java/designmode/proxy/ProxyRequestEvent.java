@@ -0,0 +1,12 @@
+package designmode.proxy;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("designmode.ProxyRequest")
+@Label("Proxy Request")
+@Category("Design Patterns")
+class ProxyRequestEvent extends Event {
+}
@@ -0,0 +1,9 @@
+package designmode.proxy;
+
+import designmode.output.Output;
+
+public class RealSubject implements Subject {
+    public void request() {
+        Output.sink().emit("RealSubject request");
+    }
+}
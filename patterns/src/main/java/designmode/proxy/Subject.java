@@ -0,0 +1,5 @@
+package designmode.proxy;
+
+public interface Subject {
+    void request();
+}
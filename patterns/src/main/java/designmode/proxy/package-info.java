@@ -0,0 +1,3 @@
+//Proxy Pattern代理模式
+//为其他对象提供一种代理以控制对这个对象的访问
+package designmode.proxy;
@@ -0,0 +1,3 @@
+//Singleton Pattern单例模式
+//确保一个类只有一个实例，并提供一个全局访问点
+package designmode.singleton;
@@ -0,0 +1,14 @@
+package designmode.state;
+
+import designmode.output.Output;
+
+class StartState implements State {
+    public void doAction(Context context) {
+        Output.sink().emit("Player is in start state");
+        context.setState(this);
+    }
+
+    public String toString() {
+        return "Start State";
+    }
+}
@@ -0,0 +1,5 @@
+package designmode.state;
+
+interface State {
+    void doAction(Context context);
+}
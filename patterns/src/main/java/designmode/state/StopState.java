@@ -0,0 +1,14 @@
+package designmode.state;
+
+import designmode.output.Output;
+
+class StopState implements State {
+    public void doAction(Context context) {
+        Output.sink().emit("Player is in stop state");
+        context.setState(this);
+    }
+
+    public String toString() {
+        return "Stop State";
+    }
+}
@@ -0,0 +1,3 @@
+//State Pattern状态模式
+//允许对象在内部状态改变时改变它的行为，对象看起来好像修改了它的类
+package designmode.state;
@@ -0,0 +1,104 @@
+package designmode.strategy;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+//自适应策略上下文：同时持有多个可互换的策略，按输入规模分桶，在真实调用上采样每个策略的耗时，
+//大部分调用交给当前桶里最快的策略，小部分调用随机探索其他策略，以跟上数据形态的变化
+//探索概率按耗时打折：越慢的策略越少被探索，探索带来的额外耗时不超过最快策略耗时的 explorationRate 倍
+class AdaptiveContext {
+    //第 i 个桶对应长度在 [2^i, 2^(i+1)) 之间的输入，长度为 0 或 1 的输入落在第 0 个桶
+    static final int BUCKETS = 32;
+    //选中最快策略的调用每 TIMING_INTERVAL 次才计时一次，省下两次 System.nanoTime；探索的调用总是计时
+    static final int TIMING_INTERVAL = 8;
+
+    private final Strategy[] strategies;
+    private final double explorationRate;
+    private final StrategyStats[][] stats;
+
+    public AdaptiveContext(double explorationRate, Strategy... strategies) {
+        if (strategies.length == 0) {
+            throw new IllegalArgumentException("At least one strategy is required");
+        }
+        if (explorationRate < 0 || explorationRate > 1) {
+            throw new IllegalArgumentException("explorationRate must be in [0, 1]");
+        }
+        this.strategies = strategies.clone();
+        this.explorationRate = explorationRate;
+        this.stats = new StrategyStats[BUCKETS][strategies.length];
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int s = 0; s < strategies.length; s++) {
+                stats[b][s] = new StrategyStats(strategies[s]);
+            }
+        }
+    }
+
+    //单对整数的调用比 System.nanoTime 本身还便宜，没法可靠计时，所以不参与自适应，固定交给第一个策略
+    //只有批量调用会被采样和选择
+    public int executeStrategy(int num1, int num2) {
+        return strategies[0].doOperation(num1, num2);
+    }
+
+    public void executeStrategy(int[] num1, int[] num2, int[] result) {
+        if (num1.length != result.length || num2.length != result.length) {
+            throw new IllegalArgumentException("Array lengths differ");
+        }
+        int bucket = bucketOf(result.length);
+        int chosen = select(bucket);
+        if (chosen < 0) {
+            strategies[~chosen].doOperation(num1, num2, result, 0, result.length);
+            return;
+        }
+        long start = System.nanoTime();
+        strategies[chosen].doOperation(num1, num2, result, 0, result.length);
+        stats[bucket][chosen].record(System.nanoTime() - start);
+    }
+
+    static int bucketOf(int length) {
+        return length <= 1 ? 0 : 31 - Integer.numberOfLeadingZeros(length);
+    }
+
+    //每个策略至少先采样一次；之后随机挑一个策略，以 explorationRate * 最快耗时 / 它的耗时 的概率探索它，否则选平均耗时最低的
+    //这样每次调用因探索多花的期望时间不超过 explorationRate * 最快耗时，比最快的慢 100 倍的策略大约每 100/explorationRate 次调用才探索一次
+    //返回 ~s（负数）表示选中 s 但这次不计时
+    private int select(int bucket) {
+        StrategyStats[] row = stats[bucket];
+        for (int s = 0; s < row.length; s++) {
+            if (row[s].getSamples() == 0) {
+                return s;
+            }
+        }
+        int best = 0;
+        for (int s = 1; s < row.length; s++) {
+            if (row[s].getAverageNanos() < row[best].getAverageNanos()) {
+                best = s;
+            }
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int candidate = random.nextInt(row.length);
+        if (candidate != best && random.nextDouble()
+                < explorationRate * row[best].getAverageNanos() / Math.max(1, row[candidate].getAverageNanos())) {
+            return candidate;
+        }
+        return random.nextInt(TIMING_INTERVAL) == 0 ? best : ~best;
+    }
+
+    //返回某个桶当前被选中的策略，桶里还没有样本时返回 null
+    public Strategy getSelected(int bucket) {
+        StrategyStats[] row = stats[bucket];
+        StrategyStats best = null;
+        for (StrategyStats candidate : row) {
+            if (candidate.getSamples() == 0) {
+                return null;
+            }
+            if (best == null || candidate.getAverageNanos() < best.getAverageNanos()) {
+                best = candidate;
+            }
+        }
+        return best.getStrategy();
+    }
+
+    public List<StrategyStats> getStatistics(int bucket) {
+        return List.of(stats[bucket].clone());
+    }
+}
@@ -0,0 +1,38 @@
+package designmode.strategy;
+
+import java.util.stream.IntStream;
+
+class Context {
+    //超过这个长度的数组才拆分到多个核上执行，太小的数组拆分的开销比计算本身还大
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private Strategy strategy;
+
+    public Context(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public int executeStrategy(int num1, int num2) {
+        return strategy.doOperation(num1, num2);
+    }
+
+    public void executeStrategy(int[] num1, int[] num2, int[] result) {
+        if (num1.length != result.length || num2.length != result.length) {
+            throw new IllegalArgumentException("Array lengths differ");
+        }
+        int length = result.length;
+        if (length < PARALLEL_THRESHOLD) {
+            strategy.doOperation(num1, num2, result, 0, length);
+            return;
+        }
+        int chunks = Runtime.getRuntime().availableProcessors();
+        int chunkSize = (length + chunks - 1) / chunks;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * chunkSize;
+            int to = Math.min(length, from + chunkSize);
+            if (from < to) {
+                strategy.doOperation(num1, num2, result, from, to);
+            }
+        });
+    }
+}
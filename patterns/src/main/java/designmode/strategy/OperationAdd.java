@@ -0,0 +1,17 @@
+package designmode.strategy;
+
+class OperationAdd implements Strategy {
+    public int doOperation(int num1, int num2) {
+        return num1 + num2;
+    }
+
+    public void doOperation(int[] num1, int[] num2, int[] result, int from, int to) {
+        if (VectorSupport.AVAILABLE) {
+            VectorOperations.add(num1, num2, result, from, to);
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            result[i] = num1[i] + num2[i];
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package designmode.strategy;
+
+interface Strategy {
+    int doOperation(int num1, int num2);
+
+    //批量版本：对[from, to)区间内的每一对元素执行运算，结果写入result，省去逐个元素的虚调用
+    default void doOperation(int[] num1, int[] num2, int[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = doOperation(num1[i], num2[i]);
+        }
+    }
+}
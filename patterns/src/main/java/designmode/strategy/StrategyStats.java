@@ -0,0 +1,43 @@
+package designmode.strategy;
+
+//单个策略在某个桶里的耗时统计，平均值用指数加权移动平均，新样本权重为 ALPHA
+//单个样本最多按当前平均值的 OUTLIER_FACTOR 倍计入，一次线程切换或 GC 停顿不会把平均值拉高几十倍，
+//真实耗时变慢时平均值每个样本仍能涨 (OUTLIER_FACTOR - 1) * ALPHA，很快就能跟上
+class StrategyStats {
+    static final double ALPHA = 0.1;
+    static final double OUTLIER_FACTOR = 4;
+
+    private final Strategy strategy;
+    //写入在锁里进行，读取不加锁：选择策略时每次调用都要读，读到稍旧的值也没关系
+    private volatile long samples;
+    private volatile double averageNanos;
+
+    StrategyStats(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    synchronized void record(long nanos) {
+        if (samples == 0) {
+            averageNanos = nanos;
+        } else {
+            averageNanos += ALPHA * (Math.min(nanos, averageNanos * OUTLIER_FACTOR) - averageNanos);
+        }
+        samples++;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public double getAverageNanos() {
+        return averageNanos;
+    }
+
+    public String toString() {
+        return strategy + " samples=" + getSamples() + " avg=" + String.format("%.0f", getAverageNanos()) + "ns";
+    }
+}
@@ -0,0 +1,42 @@
+package designmode.strategy;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+//向量化实现，只有在启动参数带上 --add-modules jdk.incubator.vector 时才会被加载
+class VectorOperations {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    static void add(int[] num1, int[] num2, int[] result, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, num1, i).add(IntVector.fromArray(SPECIES, num2, i)).intoArray(result, i);
+        }
+        for (; i < to; i++) {
+            result[i] = num1[i] + num2[i];
+        }
+    }
+
+    static void subtract(int[] num1, int[] num2, int[] result, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, num1, i).sub(IntVector.fromArray(SPECIES, num2, i)).intoArray(result, i);
+        }
+        for (; i < to; i++) {
+            result[i] = num1[i] - num2[i];
+        }
+    }
+
+    static void multiply(int[] num1, int[] num2, int[] result, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, num1, i).mul(IntVector.fromArray(SPECIES, num2, i)).intoArray(result, i);
+        }
+        for (; i < to; i++) {
+            result[i] = num1[i] * num2[i];
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package designmode.strategy;
+
+//单独放在一个类里，检查模块是否存在时不会触发 VectorOperations 的加载
+class VectorSupport {
+    static final boolean AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+}
@@ -0,0 +1,3 @@
+//Strategy Pattern策略模式
+//定义一系列算法，把它们一个个封装起来，并且使它们可互相替换。本模式使得算法可独立于使用它的客户而变化
+package designmode.strategy;
@@ -0,0 +1,17 @@
+package designmode.template;
+
+import designmode.output.Output;
+
+class Cricket extends Game {
+    void initialize() {
+        Output.sink().emit("Cricket Game Initialized! Start playing.");
+    }
+
+    void startPlay() {
+        Output.sink().emit("Cricket Game Started. Enjoy the game!");
+    }
+
+    void endPlay() {
+        Output.sink().emit("Cricket Game Finished!");
+    }
+}
@@ -0,0 +1,17 @@
+package designmode.template;
+
+import designmode.output.Output;
+
+class Football extends Game {
+    void initialize() {
+        Output.sink().emit("Football Game Initialized! Start playing.");
+    }
+
+    void startPlay() {
+        Output.sink().emit("Football Game Started. Enjoy the game!");
+    }
+
+    void endPlay() {
+        Output.sink().emit("Football Game Finished!");
+    }
+}
@@ -0,0 +1,63 @@
+package designmode.template;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+abstract class Game {
+    abstract void initialize();
+    abstract void startPlay();
+    abstract void endPlay();
+
+    //步骤表在第一次 play 时按 declareSteps 建好，之后每次 play 都复用；并发建表时多建一次也没有副作用
+    private volatile GameSteps.Step[] steps;
+
+    //声明步骤及其依赖，依赖只能引用之前声明过的步骤，所以不会出现环
+    //默认是 initialize -> startPlay -> endPlay 的顺序链，子类可以覆盖它拆出可以并行的步骤（例子见基准测试里的 SlowGame）
+    protected void declareSteps(GameSteps steps) {
+        steps.step("initialize", this::initialize);
+        steps.step("startPlay", this::startPlay, "initialize");
+        steps.step("endPlay", this::endPlay, "startPlay");
+    }
+
+    //模板方法：在调用者线程上按声明顺序依次执行
+    public final void play() {
+        for (GameSteps.Step step : steps()) {
+            step.run();
+        }
+    }
+
+    //模板方法的调度版本：没有依赖关系的步骤在 executor 上并发执行
+    public final CompletableFuture<Void> play(Executor executor) {
+        GameSteps.Step[] steps = steps();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            int[] dependsOn = steps[i].dependsOn;
+            CompletableFuture<?>[] dependencies = new CompletableFuture<?>[dependsOn.length];
+            for (int d = 0; d < dependsOn.length; d++) {
+                dependencies[d] = futures[dependsOn[d]];
+            }
+            futures[i] = CompletableFuture.allOf(dependencies).thenRunAsync(steps[i], executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private GameSteps.Step[] steps() {
+        GameSteps.Step[] result = steps;
+        if (result == null) {
+            GameSteps declared = new GameSteps(this);
+            declareSteps(declared);
+            result = declared.build();
+            steps = result;
+        }
+        return result;
+    }
+
+    //一次调用并行执行多局游戏
+    public static CompletableFuture<Void> playAll(Executor executor, Game... games) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[games.length];
+        for (int i = 0; i < games.length; i++) {
+            futures[i] = games[i].play(executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+}
@@ -0,0 +1,65 @@
+package designmode.template;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import designmode.metrics.Histogram;
+import designmode.metrics.Metrics;
+
+//一局游戏的步骤表，由 declareSteps 填写，build 之后按下标引用依赖；打开指标时每个步骤的耗时记录在 template.<游戏>.<步骤>Nanos 直方图里
+class GameSteps {
+    private final String gameName;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    GameSteps(Game game) {
+        this.gameName = game.getClass().getSimpleName();
+    }
+
+    public void step(String name, Runnable action, String... dependsOn) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate step: " + name);
+        }
+        for (String dependency : dependsOn) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on undeclared step " + dependency);
+            }
+        }
+        int[] dependencies = new int[dependsOn.length];
+        for (int i = 0; i < dependsOn.length; i++) {
+            dependencies[i] = steps.get(dependsOn[i]).index;
+        }
+        steps.put(name, new Step(steps.size(), action, dependencies,
+                Metrics.histogram("template." + gameName + "." + name + "Nanos")));
+    }
+
+    Step[] build() {
+        return steps.values().toArray(new Step[0]);
+    }
+
+    static class Step implements Runnable {
+        final int index;
+        final int[] dependsOn;
+        private final Runnable action;
+        private final Histogram histogram;
+
+        Step(int index, Runnable action, int[] dependsOn, Histogram histogram) {
+            this.index = index;
+            this.action = action;
+            this.dependsOn = dependsOn;
+            this.histogram = histogram;
+        }
+
+        public void run() {
+            if (!Metrics.ENABLED) {
+                action.run();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                action.run();
+            } finally {
+                histogram.record(System.nanoTime() - start);
+            }
+        }
+    }
+}
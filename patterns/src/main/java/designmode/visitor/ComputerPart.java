@@ -0,0 +1,5 @@
+package designmode.visitor;
+
+interface ComputerPart {
+    void accept(ComputerPartVisitor computerPartVisitor);
+}
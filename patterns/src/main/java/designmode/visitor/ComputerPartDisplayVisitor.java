@@ -0,0 +1,21 @@
+package designmode.visitor;
+
+import designmode.output.Output;
+
+class ComputerPartDisplayVisitor implements ComputerPartVisitor {
+    public void visit(Computer computer) {
+        Output.sink().emit("Displaying Computer.");
+    }
+
+    public void visit(Mouse mouse) {
+        Output.sink().emit("Displaying Mouse.");
+    }
+
+    public void visit(Keyboard keyboard) {
+        Output.sink().emit("Displaying Keyboard.");
+    }
+
+    public void visit(Monitor monitor) {
+        Output.sink().emit("Displaying Monitor.");
+    }
+}
@@ -0,0 +1,8 @@
+package designmode.visitor;
+
+interface ComputerPartVisitor {
+    void visit(Computer computer);
+    void visit(Mouse mouse);
+    void visit(Keyboard keyboard);
+    void visit(Monitor monitor);
+}
@@ -0,0 +1,7 @@
+package designmode.visitor;
+
+class Keyboard implements ComputerPart {
+    public void accept(ComputerPartVisitor computerPartVisitor) {
+        computerPartVisitor.visit(this);
+    }
+}
@@ -0,0 +1,7 @@
+package designmode.visitor;
+
+class Mouse implements ComputerPart {
+    public void accept(ComputerPartVisitor computerPartVisitor) {
+        computerPartVisitor.visit(this);
+    }
+}
@@ -0,0 +1,8 @@
+package designmode.visitor;
+
+public class VisitorPatternDemo {
+    public static void main(String[] args) {
+        ComputerPart computer = new Computer();
+        computer.accept(new ComputerPartDisplayVisitor());
+    }
+}
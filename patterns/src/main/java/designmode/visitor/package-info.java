@@ -0,0 +1,3 @@
+//Visitor Pattern访问者模式
+//表示一个作用于某对象结构中的各元素的操作。它使你可以在不改变各元素的类的前提下定义作用于这些元素的新操作
+package designmode.visitor;
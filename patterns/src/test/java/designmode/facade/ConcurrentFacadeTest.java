@@ -0,0 +1,127 @@
+package designmode.facade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentFacadeTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void combinesResultsInRegistrationOrder() throws Exception {
+        ConcurrentFacade facade = new ConcurrentFacade(executor);
+        facade.register("a", () -> "A", 1000, 1);
+        facade.register("b", () -> "B", 1000, 1);
+
+        Map<String, Object> results = facade.operation();
+
+        assertEquals(Map.of("a", "A", "b", "B"), results);
+        assertEquals("[a, b]", results.keySet().toString());
+    }
+
+    //不响应中断的调用超时后，operation 要等它真正结束才抛出 TimeoutException
+    @Test
+    void timeoutWaitsForUninterruptibleCall() {
+        AtomicBoolean running = new AtomicBoolean();
+        ConcurrentFacade facade = new ConcurrentFacade(executor);
+        facade.register("slow", () -> {
+            running.set(true);
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            running.set(false);
+            return "late";
+        }, 50, 1);
+
+        TimeoutException e = assertThrows(TimeoutException.class, facade::operation);
+
+        assertEquals("Subsystem slow timed out", e.getMessage());
+        assertFalse(running.get());
+    }
+
+    //一个调用失败时，其余还在阻塞的调用被中断，并且在 operation 抛出异常之前已经退出
+    @Test
+    void failureCancelsAndJoinsSiblings() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean finished = new AtomicBoolean();
+        ConcurrentFacade facade = new ConcurrentFacade(executor);
+        facade.register("failing", () -> {
+            Thread.sleep(20);
+            throw new IllegalStateException("boom");
+        }, 1000, 1);
+        facade.register("blocked", () -> {
+            try {
+                Thread.sleep(10_000);
+                return "never";
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            } finally {
+                finished.set(true);
+            }
+        }, 1000, 1);
+
+        ExecutionException e = assertThrows(ExecutionException.class, facade::operation);
+
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertTrue(interrupted.get());
+        assertTrue(finished.get());
+    }
+
+    //执行器丢弃任务时不会调用 run，超时仍要按时生效，排在队列里的调用之后也不应再运行
+    @Test
+    void droppedCallsDoNotBlockTimeout() throws InterruptedException {
+        ThreadPoolExecutor small = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.DiscardPolicy());
+        AtomicInteger started = new AtomicInteger();
+        ConcurrentFacade facade = new ConcurrentFacade(small);
+        for (int i = 0; i < 3; i++) {
+            facade.register("subsystem" + i, () -> {
+                started.incrementAndGet();
+                Thread.sleep(10_000);
+                return "never";
+            }, 200, 1);
+        }
+
+        try {
+            TimeoutException e = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                    () -> assertThrows(TimeoutException.class, facade::operation));
+
+            assertEquals("Subsystem subsystem0 timed out", e.getMessage());
+        } finally {
+            small.shutdown();
+            assertTrue(small.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, started.get());
+    }
+}
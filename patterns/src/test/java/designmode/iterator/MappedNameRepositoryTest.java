@@ -0,0 +1,59 @@
+package designmode.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedNameRepositoryTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsEveryRecord() throws IOException {
+        Path file = writeNames(1000);
+
+        MappedNameRepository repository = MappedNameRepository.open(file);
+
+        assertEquals(1000, repository.size());
+        assertEquals("Name-0", repository.get(0).toString());
+        assertEquals("Name-999", repository.get(999).toString());
+    }
+
+    //索引比数据文件新但被截断了（比如建索引中途崩溃），open 要发现并重建，而不是少返回记录
+    @Test
+    void rebuildsTruncatedIndex() throws IOException {
+        Path file = writeNames(1000);
+        Path indexFile = file.resolveSibling(file.getFileName() + ".idx");
+        MappedNameRepository.buildIndex(file, indexFile);
+        try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.WRITE)) {
+            index.truncate(400L * Long.BYTES);
+        }
+
+        MappedNameRepository repository = MappedNameRepository.open(file);
+
+        assertEquals(1000, repository.size());
+        assertEquals("Name-999", repository.get(999).toString());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    private Path writeNames(int records) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < records; i++) {
+            sb.append("Name-").append(i).append('\n');
+        }
+        Path file = dir.resolve("names.txt");
+        Files.writeString(file, sb, StandardCharsets.ISO_8859_1);
+        return file;
+    }
+}
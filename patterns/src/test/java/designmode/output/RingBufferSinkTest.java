@@ -0,0 +1,96 @@
+package designmode.output;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RingBufferSinkTest {
+    @TempDir
+    Path dir;
+
+    //多个发送方和 close 赛跑：文件里的行数必须等于没有抛异常的 emit 次数，close 也不能卡住
+    @Test
+    void racingCloseKeepsEveryAcceptedMessage() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            Path file = dir.resolve("race" + round + ".txt");
+            RingBufferSink sink = new RingBufferSink(file, 1 << 8);
+            AtomicLong accepted = new AtomicLong();
+            Thread[] producers = new Thread[4];
+            for (int t = 0; t < producers.length; t++) {
+                int id = t;
+                producers[t] = new Thread(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        try {
+                            sink.emit("producer {} message {}", id, i);
+                            accepted.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            return;
+                        }
+                    }
+                });
+                producers[t].start();
+            }
+            Thread.sleep(round % 5);
+            sink.close();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertEquals(accepted.get(), lines(file).size(), "round " + round);
+        }
+    }
+
+    //容量只有 4，消息数远大于容量，序号要绕很多圈，顺序和内容都不能错
+    @Test
+    void wrapsAroundSmallCapacity() throws IOException {
+        Path file = dir.resolve("wrap.txt");
+        try (RingBufferSink sink = new RingBufferSink(file, 4)) {
+            for (int i = 0; i < 10_000; i++) {
+                sink.emit("line {}", (long) i);
+            }
+        }
+
+        List<String> lines = lines(file);
+        assertEquals(10_000, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals("line " + i, lines.get(i));
+        }
+    }
+
+    //flush 返回时，调用之前发出的消息都已经按顺序写进文件
+    @Test
+    void flushWritesEverythingEmittedBefore() throws IOException {
+        Path file = dir.resolve("flush.txt");
+        try (RingBufferSink sink = new RingBufferSink(file, 1 << 4)) {
+            for (int i = 0; i < 200; i++) {
+                sink.emit("message {}", (long) i);
+                sink.flush();
+                List<String> lines = lines(file);
+                assertEquals(i + 1, lines.size());
+                assertEquals("message " + i, lines.get(i));
+            }
+        }
+    }
+
+    @Test
+    void emitAfterCloseThrows() throws IOException {
+        RingBufferSink sink = new RingBufferSink(dir.resolve("closed.txt"), 1 << 4);
+        sink.close();
+
+        assertThrows(IllegalStateException.class, () -> sink.emit("late"));
+        sink.close();
+    }
+
+    private static List<String> lines(Path file) throws IOException {
+        return Files.readAllLines(file, StandardCharsets.UTF_8);
+    }
+}